@@ -0,0 +1,31 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+/** Outcome of resolving an employee id against the local roster snapshot. */
+public record IdLookup(Outcome outcome, Employee employee) {
+
+    private static final IdLookup MISS = new IdLookup(Outcome.MISS, null);
+    private static final IdLookup UPSTREAM = new IdLookup(Outcome.UPSTREAM, null);
+
+    public static IdLookup hit(Employee employee) {
+        return new IdLookup(Outcome.HIT, employee);
+    }
+
+    public static IdLookup miss() {
+        return MISS;
+    }
+
+    public static IdLookup upstream() {
+        return UPSTREAM;
+    }
+
+    public enum Outcome {
+        /** The snapshot holds the employee and is fresh enough to answer. */
+        HIT,
+        /** The snapshot is fresh enough to answer that the employee does not exist. */
+        MISS,
+        /** The snapshot cannot answer; ask the upstream API. */
+        UPSTREAM
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Decides when the local id map is good enough to answer a point lookup. A hit is served while the snapshot is younger
+ * than {@code maxHitAge}; a miss is only trusted while it is younger than {@code maxMissAge}, since employees created
+ * by other clients are invisible until the next refresh. A zero {@code maxMissAge} sends every miss upstream.
+ */
+public record LookupPolicy(Duration maxHitAge, Duration maxMissAge) {
+
+    public IdLookup decide(RosterSnapshot snapshot, UUID id, Instant now) {
+        Duration age = snapshot.age(now);
+        Employee employee = snapshot.employeesById().get(id);
+        if (employee != null) {
+            return age.compareTo(maxHitAge) < 0 ? IdLookup.hit(employee) : IdLookup.upstream();
+        }
+        return age.compareTo(maxMissAge) < 0 ? IdLookup.miss() : IdLookup.upstream();
+    }
+}
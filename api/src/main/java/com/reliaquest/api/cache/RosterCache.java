@@ -0,0 +1,287 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process roster cache with stale-while-revalidate semantics. A fresh snapshot is served from memory; a stale one is
+ * still served while a single background refresh replaces it. Only a cold cache makes the caller wait for upstream,
+ * and concurrent cold callers share one upstream fetch.
+ *
+ * <p>Local mutations are applied as {@link RosterDelta}s that produce a new snapshot version, giving read-your-writes
+ * without a refetch. Deltas applied while a load is in flight are replayed on the roster it installs, so a fetch that
+ * raced a mutation cannot roll it back. Writers serialize on a lock; readers only ever read the current reference.
+ */
+@Slf4j
+public class RosterCache {
+
+    private static final String ROSTER = "roster";
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final LookupPolicy lookupPolicy;
+    private final Clock clock;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final SingleFlight<String, RosterSnapshot> loads = new SingleFlight<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<RosterDelta> pendingReplay = new ArrayList<>();
+    private int loading;
+    private List<Employee> lastFetched;
+    private RosterSnapshot lastInstalled;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder lookupHits = new LongAdder();
+    private final LongAdder lookupMisses = new LongAdder();
+    private final LongAdder lookupUpstream = new LongAdder();
+
+    public RosterCache(boolean enabled, Duration ttl, LookupPolicy lookupPolicy, Clock clock) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.lookupPolicy = lookupPolicy;
+        this.clock = clock;
+    }
+
+    public Mono<RosterSnapshot> get(Supplier<Mono<List<Employee>>> loader) {
+        return Mono.defer(() -> {
+            RosterSnapshot snapshot = current.get();
+            if (!enabled || snapshot == null) {
+                misses.increment();
+                return load(loader);
+            }
+            if (snapshot.isStale(clock.instant(), ttl)) {
+                staleHits.increment();
+                refreshInBackground(loader);
+            } else {
+                hits.increment();
+            }
+            return Mono.just(snapshot);
+        });
+    }
+
+    /** Resolves an id against the current snapshot without triggering a load. */
+    public IdLookup lookup(String id) {
+        IdLookup lookup = resolve(id);
+        switch (lookup.outcome()) {
+            case HIT -> lookupHits.increment();
+            case MISS -> lookupMisses.increment();
+            case UPSTREAM -> lookupUpstream.increment();
+        }
+        return lookup;
+    }
+
+    private IdLookup resolve(String id) {
+        RosterSnapshot snapshot = current.get();
+        if (!enabled || snapshot == null) {
+            return IdLookup.upstream();
+        }
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return IdLookup.upstream();
+        }
+        return lookupPolicy.decide(snapshot, uuid, clock.instant());
+    }
+
+    /** Cumulative counts of how {@link #get} and {@link #lookup} were answered. */
+    public RosterCacheStats stats() {
+        return new RosterCacheStats(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                lookupHits.sum(),
+                lookupMisses.sum(),
+                lookupUpstream.sum());
+    }
+
+    /** Whether {@link #get} would answer from a cached snapshot instead of loading one. */
+    public boolean isWarm() {
+        return enabled && current.get() != null;
+    }
+
+    public Duration age(RosterSnapshot snapshot) {
+        return snapshot.age(clock.instant());
+    }
+
+    public boolean isStale(RosterSnapshot snapshot) {
+        return snapshot.isStale(clock.instant(), ttl);
+    }
+
+    public Optional<RosterSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public void applyCreated(Employee employee) {
+        apply(new RosterDelta.Created(employee));
+    }
+
+    public void applyDeleted(UUID id) {
+        apply(new RosterDelta.Deleted(id));
+    }
+
+    /** Removes the employee the upstream API deletes for {@code name}: the first case-insensitive match. */
+    public void applyDeletedByName(String name) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            snapshot.findFirstByName(name).ifPresent(employee -> apply(new RosterDelta.Deleted(employee.getId())));
+        }
+    }
+
+    /**
+     * Loads a new snapshot from a fetch that starts after this call. A load already in flight may have read upstream
+     * too early, so it is waited for and then followed by a fresh one rather than shared.
+     */
+    public Mono<RosterSnapshot> refresh(Supplier<Mono<List<Employee>>> loader) {
+        return loads.executeAfter(ROSTER, () -> fetchAndInstall(loader));
+    }
+
+    /**
+     * Marks the current snapshot as fetched now. For a caller that knows upstream has not changed beyond it, such as a
+     * change feed that has applied every upstream change so far.
+     */
+    public void confirmCurrent() {
+        writeLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot == null || loading > 0) {
+                return;
+            }
+            RosterSnapshot confirmed = snapshot.withFetchedAt(clock.instant());
+            current.set(confirmed);
+            if (lastInstalled == snapshot) {
+                lastInstalled = confirmed;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(RosterDelta delta) {
+        writeLock.lock();
+        try {
+            if (loading > 0) {
+                pendingReplay.add(delta);
+            }
+            RosterSnapshot snapshot = current.get();
+            if (snapshot == null) {
+                return;
+            }
+            RosterSnapshot patched = delta.applyTo(snapshot);
+            if (patched != snapshot) {
+                current.set(patched.withVersion(versions.incrementAndGet()));
+                log.debug("Applied {} to roster snapshot version {}", delta, current.get().version());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Mono<RosterSnapshot> load(Supplier<Mono<List<Employee>>> loader) {
+        return loads.execute(ROSTER, () -> fetchAndInstall(loader));
+    }
+
+    private Mono<RosterSnapshot> fetchAndInstall(Supplier<Mono<List<Employee>>> loader) {
+        return Mono.defer(() -> {
+                    beginLoad();
+                    return loader.get();
+                })
+                .map(this::install)
+                .doFinally(signal -> endLoad());
+    }
+
+    private void refreshInBackground(Supplier<Mono<List<Employee>>> loader) {
+        if (loads.isInFlight(ROSTER)) {
+            return;
+        }
+        log.debug("Roster snapshot is stale, refreshing in background");
+        load(loader)
+                .subscribe(
+                        snapshot -> log.debug("Refreshed roster snapshot to version {}", snapshot.version()),
+                        error -> log.warn("Background roster refresh failed, keeping stale snapshot", error));
+    }
+
+    private void beginLoad() {
+        writeLock.lock();
+        try {
+            loading++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void endLoad() {
+        writeLock.lock();
+        try {
+            // a refresh starts its load while the one it waited for is still finishing
+            if (--loading == 0) {
+                pendingReplay.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Installs a fetched roster. A loader that hands back the very list it returned last time, as a revalidated
+     * conditional fetch does, only renews the current snapshot's fetch time when nothing was patched in between;
+     * the indexes are not rebuilt.
+     */
+    private RosterSnapshot install(List<Employee> employees) {
+        RosterSnapshot renewed = renew(employees);
+        if (renewed != null) {
+            return renewed;
+        }
+        RosterSnapshot fetched = RosterSnapshot.of(0, employees, clock.instant());
+        writeLock.lock();
+        try {
+            for (RosterDelta delta : pendingReplay) {
+                fetched = delta.applyTo(fetched);
+            }
+            if (!pendingReplay.isEmpty()) {
+                log.debug("Replayed {} local changes onto fetched roster", pendingReplay.size());
+                pendingReplay.clear();
+            }
+            RosterSnapshot snapshot = fetched.withVersion(versions.incrementAndGet());
+            current.set(snapshot);
+            lastFetched = employees;
+            lastInstalled = snapshot;
+            log.debug("Installed roster snapshot version {} with {} employees", snapshot.version(), employees.size());
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private RosterSnapshot renew(List<Employee> employees) {
+        writeLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (employees != lastFetched || snapshot == null || snapshot != lastInstalled || !pendingReplay.isEmpty()) {
+                return null;
+            }
+            RosterSnapshot renewed = snapshot.withFetchedAt(clock.instant());
+            current.set(renewed);
+            lastInstalled = renewed;
+            log.debug("Renewed unchanged roster snapshot version {}", renewed.version());
+            return renewed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Counters of a {@link RosterCache}. Roster reads are fresh {@code hits}, {@code staleHits} that also triggered a
+ * background refresh, or {@code misses} that waited for a load. Id lookups are answered from the snapshot
+ * ({@code lookupHits}, {@code lookupMisses}) or sent upstream.
+ */
+public record RosterCacheStats(
+        long hits, long staleHits, long misses, long lookupHits, long lookupMisses, long lookupUpstream) {}
@@ -0,0 +1,33 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.UUID;
+
+/**
+ * A local change to the roster that is applied to every derived structure of a snapshot. Deltas are idempotent so they
+ * can be replayed on top of a roster fetched while they were being applied.
+ */
+public sealed interface RosterDelta {
+
+    RosterSnapshot applyTo(RosterSnapshot snapshot);
+
+    record Created(Employee employee) implements RosterDelta {
+
+        @Override
+        public RosterSnapshot applyTo(RosterSnapshot snapshot) {
+            if (employee.getId() != null && snapshot.employeesById().containsKey(employee.getId())) {
+                return snapshot;
+            }
+            return snapshot.withCreated(employee);
+        }
+    }
+
+    record Deleted(UUID id) implements RosterDelta {
+
+        @Override
+        public RosterSnapshot applyTo(RosterSnapshot snapshot) {
+            Employee employee = snapshot.employeesById().get(id);
+            return employee == null ? snapshot : snapshot.withDeleted(employee);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.index.NameIndex;
+import com.reliaquest.api.index.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned view of the upstream employee roster and the indexes derived from it. A new snapshot is
+ * installed on every successful fetch or local patch; readers holding an older instance keep a consistent view.
+ */
+public record RosterSnapshot(
+        long version,
+        List<Employee> employees,
+        Map<UUID, Employee> employeesById,
+        SalaryIndex salaryIndex,
+        NameIndex nameIndex,
+        Instant fetchedAt) {
+
+    public static RosterSnapshot of(long version, List<Employee> employees, Instant fetchedAt) {
+        List<Employee> roster = Collections.unmodifiableList(new ArrayList<>(employees));
+        Map<UUID, Employee> byId = new HashMap<>(roster.size() * 4 / 3 + 1);
+        for (Employee employee : roster) {
+            if (employee.getId() != null) {
+                byId.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        return new RosterSnapshot(
+                version,
+                roster,
+                Collections.unmodifiableMap(byId),
+                SalaryIndex.of(roster),
+                NameIndex.of(roster),
+                fetchedAt);
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    public boolean isStale(Instant now, Duration ttl) {
+        return age(now).compareTo(ttl) >= 0;
+    }
+
+    /** First employee whose name matches ignoring case, mirroring how the upstream API resolves a delete by name. */
+    public Optional<Employee> findFirstByName(String name) {
+        for (Employee employee : employees) {
+            if (employee.getName() != null && employee.getName().equalsIgnoreCase(name)) {
+                return Optional.of(employee);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public RosterSnapshot withVersion(long newVersion) {
+        return new RosterSnapshot(newVersion, employees, employeesById, salaryIndex, nameIndex, fetchedAt);
+    }
+
+    public RosterSnapshot withFetchedAt(Instant newFetchedAt) {
+        return new RosterSnapshot(version, employees, employeesById, salaryIndex, nameIndex, newFetchedAt);
+    }
+
+    public RosterSnapshot withCreated(Employee employee) {
+        List<Employee> roster = new ArrayList<>(employees.size() + 1);
+        roster.addAll(employees);
+        roster.add(employee);
+        Map<UUID, Employee> byId = new HashMap<>(employeesById);
+        if (employee.getId() != null) {
+            byId.put(employee.getId(), employee);
+        }
+        return new RosterSnapshot(
+                version,
+                Collections.unmodifiableList(roster),
+                Collections.unmodifiableMap(byId),
+                salaryIndex.withAdded(employee),
+                nameIndex.withAdded(employee),
+                fetchedAt);
+    }
+
+    public RosterSnapshot withDeleted(Employee employee) {
+        List<Employee> roster = new ArrayList<>(employees);
+        if (!roster.removeIf(existing -> Objects.equals(existing.getId(), employee.getId()))) {
+            return this;
+        }
+        Map<UUID, Employee> byId = new HashMap<>(employeesById);
+        byId.remove(employee.getId());
+        return new RosterSnapshot(
+                version,
+                Collections.unmodifiableList(roster),
+                Collections.unmodifiableMap(byId),
+                salaryIndex.withRemoved(employee),
+                nameIndex.withRemoved(employee),
+                fetchedAt);
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent calls for the same key into a single upstream subscription. Every caller that arrives while a
+ * call is in flight shares its result or error; the first caller after completion starts a new call.
+ *
+ * <p>The shared call is cached rather than multicast, so a caller that picks it up just as it terminates gets its
+ * result instead of subscribing upstream again. A call only ever removes its own entry, never a newer one.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> start(k, call)));
+    }
+
+    /**
+     * Like {@link #execute}, but never shares a call that was already in flight when this one was made. That call is
+     * waited for and its outcome discarded; then a new call is started, or joined if another caller started one since.
+     */
+    public Mono<V> executeAfter(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            Mono<V> earlier = inFlight.get(key);
+            if (earlier == null) {
+                return execute(key, call);
+            }
+            return earlier.onErrorResume(error -> Mono.empty())
+                    .then(Mono.defer(() -> inFlight.compute(
+                            key, (k, running) -> running == null || running == earlier ? start(k, call) : running)));
+        });
+    }
+
+    private Mono<V> start(K key, Supplier<Mono<V>> call) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> shared = call.get().doFinally(signal -> inFlight.remove(key, self.get())).cache();
+        self.set(shared);
+        return shared;
+    }
+
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.http.HttpHeaders;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Carries the age of stale roster data used to build a response from the service up to the web layer. A handler
+ * attaches an instance to the Reactor context of the call it subscribes to; the service records into whatever instance
+ * it finds there, and records nothing when there is none.
+ */
+public final class Staleness {
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    private final AtomicReference<Duration> age = new AtomicReference<>();
+
+    public Context attach(Context context) {
+        return context.put(Staleness.class, this);
+    }
+
+    /** Keeps the oldest age recorded for the response. */
+    public static void record(ContextView context, Duration age) {
+        context.<Staleness>getOrEmpty(Staleness.class)
+                .ifPresent(staleness -> staleness.age.accumulateAndGet(
+                        age, (recorded, next) -> recorded == null || next.compareTo(recorded) > 0 ? next : recorded));
+    }
+
+    public Optional<Duration> age() {
+        return Optional.ofNullable(age.get());
+    }
+
+    /** {@code Age} and {@code Warning} headers for a stale response; empty otherwise. */
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        age().ifPresent(recorded -> {
+            headers.set(HttpHeaders.AGE, Long.toString(recorded.toSeconds()));
+            headers.set(HttpHeaders.WARNING, STALE_WARNING);
+        });
+        return headers;
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes the {@code data} array of a mock API envelope ({@code {"data": [...], "status": ...}}) element by element.
+ *
+ * <p>Bytes are pushed through Jackson's non-blocking parser as they arrive; only the tokens of the element currently
+ * being read are buffered, so memory use does not grow with the size of the array. Fields other than {@code data} are
+ * skipped.
+ */
+public class DataArrayDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+
+    public DataArrayDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> Flux<T> decode(Flux<DataBuffer> body, Class<T> elementType) {
+        return Flux.defer(() -> {
+            Tokenizer<T> tokenizer = new Tokenizer<>(elementType);
+            return body.concatMapIterable(tokenizer::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+                    .doFinally(signal -> tokenizer.close());
+        });
+    }
+
+    private final class Tokenizer<T> {
+
+        private final Class<T> elementType;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean inData;
+        private TokenBuffer element;
+        private int elementDepth;
+
+        private Tokenizer(Class<T> elementType) {
+            this.elementType = elementType;
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new DecodingException("Could not create non-blocking JSON parser", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private List<T> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            try {
+                buffer.read(bytes);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+            }
+        }
+
+        private List<T> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<T> elements = drain();
+                if (depth != 0 || element != null) {
+                    throw new DecodingException("Unexpected end of JSON input");
+                }
+                return elements;
+            } catch (IOException e) {
+                throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+            }
+        }
+
+        private List<T> drain() throws IOException {
+            List<T> elements = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        elementDepth++;
+                    } else if (token.isStructEnd() && --elementDepth == 0) {
+                        elements.add(objectMapper.readValue(element.asParser(objectMapper), elementType));
+                        element = null;
+                    }
+                } else if (inData) {
+                    onDataToken(token);
+                } else {
+                    onEnvelopeToken(token);
+                }
+            }
+            return elements;
+        }
+
+        private void onDataToken(JsonToken token) throws IOException {
+            if (token == JsonToken.START_OBJECT) {
+                element = new TokenBuffer(parser);
+                element.copyCurrentEvent(parser);
+                elementDepth = 1;
+            } else if (token == JsonToken.END_ARRAY) {
+                inData = false;
+                depth--;
+            } else if (token != JsonToken.VALUE_NULL) {
+                throw new DecodingException("Expected object in '" + DATA_FIELD + "' array but found " + token);
+            }
+        }
+
+        private void onEnvelopeToken(JsonToken token) throws IOException {
+            if (token.isStructStart()) {
+                if (depth == 1 && token == JsonToken.START_ARRAY && DATA_FIELD.equals(parser.currentName())) {
+                    inData = true;
+                }
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                // nothing buffered is worth reporting once the stream has terminated
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.UUID;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Hand-written Jackson codec for {@link Employee}, the element type of every roster payload.
+ *
+ * <p>Produces and accepts the same JSON as the {@code @JsonNaming} bean mapping, without per-property reflection or
+ * naming-strategy lookups: field names are pre-encoded once and fields are dispatched on a {@code switch}. Unknown
+ * fields are skipped.
+ */
+@JsonComponent
+public class EmployeeJsonComponent {
+
+    static final String ID = "id";
+    static final String NAME = "employee_name";
+    static final String SALARY = "employee_salary";
+    static final String AGE = "employee_age";
+    static final String TITLE = "employee_title";
+    static final String EMAIL = "employee_email";
+
+    private static final SerializableString ID_FIELD = new SerializedString(ID);
+    private static final SerializableString NAME_FIELD = new SerializedString(NAME);
+    private static final SerializableString SALARY_FIELD = new SerializedString(SALARY);
+    private static final SerializableString AGE_FIELD = new SerializedString(AGE);
+    private static final SerializableString TITLE_FIELD = new SerializedString(TITLE);
+    private static final SerializableString EMAIL_FIELD = new SerializedString(EMAIL);
+
+    public static class Serializer extends JsonSerializer<Employee> {
+
+        @Override
+        public void serialize(Employee employee, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(employee);
+            gen.writeFieldName(ID_FIELD);
+            if (employee.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(employee.getId().toString());
+            }
+            writeString(gen, NAME_FIELD, employee.getName());
+            writeInteger(gen, SALARY_FIELD, employee.getSalary());
+            writeInteger(gen, AGE_FIELD, employee.getAge());
+            writeString(gen, TITLE_FIELD, employee.getTitle());
+            writeString(gen, EMAIL_FIELD, employee.getEmail());
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<Employee> handledType() {
+            return Employee.class;
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Employee> {
+
+        @Override
+        public Employee deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (Employee) ctxt.handleUnexpectedToken(Employee.class, p);
+            }
+            Employee employee = new Employee();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case ID -> employee.setId(readUuid(p, ctxt, value));
+                    case NAME -> employee.setName(readString(p, ctxt, value));
+                    case SALARY -> employee.setSalary(readInteger(p, ctxt, value));
+                    case AGE -> employee.setAge(readInteger(p, ctxt, value));
+                    case TITLE -> employee.setTitle(readString(p, ctxt, value));
+                    case EMAIL -> employee.setEmail(readString(p, ctxt, value));
+                    default -> p.skipChildren();
+                }
+            }
+            return employee;
+        }
+
+        @Override
+        public Class<?> handledType() {
+            return Employee.class;
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value) throws IOException {
+        gen.writeFieldName(field);
+        gen.writeString(value);
+    }
+
+    private static void writeInteger(JsonGenerator gen, SerializableString field, Integer value) throws IOException {
+        gen.writeFieldName(field);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static UUID readUuid(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            String text = p.getText();
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                return (UUID) ctxt.handleWeirdStringValue(UUID.class, text, "not a valid UUID");
+            }
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, UUID.class);
+    }
+
+    private static String readString(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+    }
+
+    private static Integer readInteger(JsonParser p, DeserializationContext ctxt, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getIntValue();
+        }
+        // strings and floats keep the default coercion rules
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Integer.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.LookupPolicy;
+import com.reliaquest.api.cache.RosterCache;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${mock-employee-api.cache.enabled}")
+    private boolean enabled;
+
+    @Value("${mock-employee-api.cache.ttl}")
+    private Duration ttl;
+
+    @Value("${mock-employee-api.cache.lookup.max-hit-age}")
+    private Duration maxHitAge;
+
+    @Value("${mock-employee-api.cache.lookup.max-miss-age}")
+    private Duration maxMissAge;
+
+    @Bean
+    public RosterCache rosterCache() {
+        return new RosterCache(enabled, ttl, new LookupPolicy(maxHitAge, maxMissAge), Clock.systemUTC());
+    }
+}
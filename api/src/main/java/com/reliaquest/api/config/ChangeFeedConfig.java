@@ -0,0 +1,45 @@
+package com.reliaquest.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterChangeFeed;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+@ConditionalOnProperty(name = "mock-employee-api.change-feed.enabled", havingValue = "true")
+public class ChangeFeedConfig {
+
+    @Value("${mock-employee-api.change-feed.idle-timeout}")
+    private Duration idleTimeout;
+
+    @Value("${mock-employee-api.change-feed.reconnect-backoff}")
+    private Duration reconnectBackoff;
+
+    @Value("${mock-employee-api.change-feed.max-reconnect-backoff}")
+    private Duration maxReconnectBackoff;
+
+    @Bean
+    public RosterChangeFeed rosterChangeFeed(
+            WebClient webClient,
+            ObjectMapper objectMapper,
+            EmployeeService employeeService,
+            RosterCache rosterCache,
+            UpstreamScheduler upstreamScheduler) {
+        return new RosterChangeFeed(
+                webClient,
+                objectMapper,
+                employeeService,
+                rosterCache,
+                upstreamScheduler,
+                idleTimeout,
+                reconnectBackoff,
+                maxReconnectBackoff);
+    }
+}
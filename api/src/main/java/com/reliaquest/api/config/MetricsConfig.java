@@ -0,0 +1,129 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterCacheStats;
+import com.reliaquest.api.ratelimit.AdaptiveRateController;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters for the service's own state. Endpoint latency ({@code http.server.requests}) and upstream calls by status
+ * ({@code http.client.requests}) come from Spring's observation support; histograms for them are switched on in
+ * {@code application.yml}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder rosterCacheMetrics(RosterCache rosterCache) {
+        return registry -> {
+            cacheRequests(registry, rosterCache, "roster", "hit", RosterCacheStats::hits);
+            cacheRequests(registry, rosterCache, "roster", "stale", RosterCacheStats::staleHits);
+            cacheRequests(registry, rosterCache, "roster", "miss", RosterCacheStats::misses);
+            cacheRequests(registry, rosterCache, "lookup", "hit", RosterCacheStats::lookupHits);
+            cacheRequests(registry, rosterCache, "lookup", "miss", RosterCacheStats::lookupMisses);
+            cacheRequests(registry, rosterCache, "lookup", "upstream", RosterCacheStats::lookupUpstream);
+            Gauge.builder("employee.roster.size", rosterCache, cache -> cache.current()
+                            .map(snapshot -> snapshot.employees().size())
+                            .orElse(0))
+                    .description("Employees in the current roster snapshot")
+                    .register(registry);
+            TimeGauge.builder("employee.roster.age", rosterCache, TimeUnit.MILLISECONDS, cache -> cache.current()
+                            .map(snapshot -> (double) cache.age(snapshot).toMillis())
+                            .orElse(Double.NaN))
+                    .description("Age of the current roster snapshot")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rateControllerMetrics(AdaptiveRateController rateController) {
+        return registry -> {
+            Gauge.builder("upstream.permits.available", rateController, AdaptiveRateController::availablePermissions)
+                    .description("Upstream requests that may be sent without waiting")
+                    .register(registry);
+            Gauge.builder("upstream.limit", rateController, MetricsConfig::learnedLimit)
+                    .description("Upstream request limit learned from 429 responses")
+                    .register(registry);
+            TimeGauge.builder("upstream.cooldown", rateController, TimeUnit.MILLISECONDS, controller -> (double)
+                            controller.cooldown().toMillis())
+                    .description("Assumed upstream penalty after the limit is used up")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder resilienceMetrics(Retry retry, CircuitBreaker circuitBreaker) {
+        return registry -> {
+            retry.getEventPublisher()
+                    .onRetry(event -> registry.counter(
+                                    "upstream.retry.attempts",
+                                    "retry",
+                                    retry.getName(),
+                                    "exception",
+                                    event.getLastThrowable().getClass().getSimpleName())
+                            .increment());
+            retryCalls(registry, retry, "successful_without_retry", metrics -> metrics
+                    .getNumberOfSuccessfulCallsWithoutRetryAttempt());
+            retryCalls(registry, retry, "successful_with_retry", metrics -> metrics
+                    .getNumberOfSuccessfulCallsWithRetryAttempt());
+            retryCalls(registry, retry, "failed_without_retry", metrics -> metrics
+                    .getNumberOfFailedCallsWithoutRetryAttempt());
+            retryCalls(registry, retry, "failed_with_retry", metrics -> metrics
+                    .getNumberOfFailedCallsWithRetryAttempt());
+            for (CircuitBreaker.State state : List.of(
+                    CircuitBreaker.State.CLOSED, CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN)) {
+                Gauge.builder("upstream.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                        .description("1 for the state the upstream circuit breaker is in")
+                        .tag("name", circuitBreaker.getName())
+                        .tag("state", state.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+            // the breaker's own not-permitted count resets on every state transition
+            circuitBreaker
+                    .getEventPublisher()
+                    .onCallNotPermitted(event -> registry.counter(
+                                    "upstream.circuit.not.permitted", "name", circuitBreaker.getName())
+                            .increment());
+        };
+    }
+
+    private static double learnedLimit(AdaptiveRateController rateController) {
+        OptionalInt limit = rateController.learnedLimit();
+        return limit.isPresent() ? limit.getAsInt() : Double.NaN;
+    }
+
+    private static void cacheRequests(
+            MeterRegistry registry,
+            RosterCache rosterCache,
+            String cache,
+            String result,
+            ToLongFunction<RosterCacheStats> count) {
+        FunctionCounter.builder("employee.cache.requests", rosterCache, c -> count.applyAsLong(c.stats()))
+                .description("Roster cache reads by result")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void retryCalls(
+            MeterRegistry registry, Retry retry, String kind, ToLongFunction<Retry.Metrics> count) {
+        FunctionCounter.builder("upstream.retry.calls", retry, r -> count.applyAsLong(r.getMetrics()))
+                .description("Upstream calls by retry outcome")
+                .tag("retry", retry.getName())
+                .tag("kind", kind)
+                .register(registry);
+    }
+}
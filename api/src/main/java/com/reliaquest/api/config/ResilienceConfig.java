@@ -1,14 +1,24 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.ratelimit.AdaptiveRateController;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.PriorityPolicy;
+import com.reliaquest.api.ratelimit.RetryAfter;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 @Configuration
@@ -23,34 +33,115 @@ public class ResilienceConfig {
     @Value("${mock-employee-api.retry.max-wait-duration}")
     private Duration maxWaitDuration;
 
-    @Value("${mock-employee-api.rate-limiter.limit-for-period}")
-    private int limitForPeriod;
+    @Value("${mock-employee-api.rate-controller.initial-cooldown}")
+    private Duration initialCooldown;
 
-    @Value("${mock-employee-api.rate-limiter.limit-refresh-period}")
-    private Duration limitRefreshPeriod;
+    @Value("${mock-employee-api.rate-controller.max-cooldown}")
+    private Duration maxCooldown;
 
-    @Value("${mock-employee-api.rate-limiter.timeout-duration}")
-    private Duration timeoutDuration;
+    @Value("${mock-employee-api.rate-controller.cooldown-resolution}")
+    private Duration cooldownResolution;
 
+    @Value("${mock-employee-api.circuit-breaker.failure-rate-threshold}")
+    private float failureRateThreshold;
+
+    @Value("${mock-employee-api.circuit-breaker.sliding-window-size}")
+    private int slidingWindowSize;
+
+    @Value("${mock-employee-api.circuit-breaker.minimum-number-of-calls}")
+    private int minimumNumberOfCalls;
+
+    @Value("${mock-employee-api.circuit-breaker.wait-duration-in-open-state}")
+    private Duration waitDurationInOpenState;
+
+    @Value("${mock-employee-api.circuit-breaker.permitted-calls-in-half-open-state}")
+    private int permittedCallsInHalfOpenState;
+
+    @Value("${mock-employee-api.scheduler.bulk-reserve}")
+    private int bulkReserve;
+
+    @Value("${mock-employee-api.scheduler.bulk-reserve-hold}")
+    private Duration bulkReserveHold;
+
+    @Value("${mock-employee-api.scheduler.critical.max-wait}")
+    private Duration criticalMaxWait;
+
+    @Value("${mock-employee-api.scheduler.critical.queue-capacity}")
+    private int criticalQueueCapacity;
+
+    @Value("${mock-employee-api.scheduler.interactive.max-wait}")
+    private Duration interactiveMaxWait;
+
+    @Value("${mock-employee-api.scheduler.interactive.queue-capacity}")
+    private int interactiveQueueCapacity;
+
+    @Value("${mock-employee-api.scheduler.bulk.max-wait}")
+    private Duration bulkMaxWait;
+
+    @Value("${mock-employee-api.scheduler.bulk.queue-capacity}")
+    private int bulkQueueCapacity;
+
+    /**
+     * Retries 429 and 503 with exponential backoff, waiting at least as long as upstream's {@code Retry-After}. A
+     * response whose {@code Retry-After} exceeds the longest backoff is not retried.
+     */
     @Bean
     public Retry retry() {
+        IntervalFunction backoff =
+                IntervalFunction.ofExponentialBackoff(waitDuration.toMillis(), 2, maxWaitDuration.toMillis());
         RetryConfig config = RetryConfig.custom()
                 .maxAttempts(maxAttempts)
-                .retryOnException(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
-                        || throwable instanceof WebClientResponseException.ServiceUnavailable)
-                .intervalFunction(
-                        IntervalFunction.ofExponentialBackoff(waitDuration.toMillis(), 2, maxWaitDuration.toMillis()))
+                .retryOnException(throwable -> (throwable instanceof WebClientResponseException.TooManyRequests
+                                || throwable instanceof WebClientResponseException.ServiceUnavailable)
+                        && RetryAfter.of(throwable)
+                                .map(retryAfter -> retryAfter.compareTo(maxWaitDuration) <= 0)
+                                .orElse(true))
+                .intervalBiFunction((attempt, outcome) -> {
+                    long backoffMillis = backoff.apply(attempt);
+                    return outcome.isLeft()
+                            ? RetryAfter.of(outcome.getLeft())
+                                    .map(retryAfter -> Math.max(retryAfter.toMillis(), backoffMillis))
+                                    .orElse(backoffMillis)
+                            : backoffMillis;
+                })
                 .build();
         return Retry.of("employeeApiRetry", config);
     }
 
+    /**
+     * Opens on throttling, 5xx and connection failures seen after retries; other 4xx responses count as successful
+     * calls. Requests the local scheduler drops never reached upstream and are ignored. While open, calls fail without
+     * reaching the scheduler or the retry.
+     */
     @Bean
-    public RateLimiter rateLimiter() {
-        RateLimiterConfig config = RateLimiterConfig.custom()
-                .limitForPeriod(limitForPeriod)
-                .limitRefreshPeriod(limitRefreshPeriod)
-                .timeoutDuration(timeoutDuration)
+    public CircuitBreaker circuitBreaker() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .recordException(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
+                        || throwable instanceof WebClientResponseException responseException
+                                && responseException.getStatusCode().is5xxServerError()
+                        || throwable instanceof WebClientRequestException)
+                .ignoreExceptions(UpstreamThrottledException.class)
                 .build();
-        return RateLimiter.of("employeeApiRateLimiter", config);
+        return CircuitBreaker.of("employeeApiCircuitBreaker", config);
+    }
+
+    @Bean
+    public AdaptiveRateController rateController() {
+        return new AdaptiveRateController(initialCooldown, maxCooldown, cooldownResolution, Clock.systemUTC());
+    }
+
+    @Bean
+    public UpstreamScheduler upstreamScheduler(AdaptiveRateController rateController, MeterRegistry meterRegistry) {
+        Map<Priority, PriorityPolicy> policies = Map.of(
+                Priority.CRITICAL, new PriorityPolicy(criticalMaxWait, criticalQueueCapacity),
+                Priority.INTERACTIVE, new PriorityPolicy(interactiveMaxWait, interactiveQueueCapacity),
+                Priority.BULK, new PriorityPolicy(bulkMaxWait, bulkQueueCapacity));
+        return new UpstreamScheduler(
+                rateController, policies, bulkReserve, bulkReserveHold, Clock.systemUTC(), meterRegistry);
     }
 }
@@ -1,17 +1,27 @@
 package com.reliaquest.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.DataArrayDecoder;
+import com.reliaquest.api.service.RosterPaging;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -28,21 +38,118 @@ public class WebClientConfig {
     @Value("${mock-employee-api.timeout.connection}")
     private Duration connectionTimeout;
 
+    @Value("${mock-employee-api.protocol}")
+    private HttpProtocol protocol;
+
+    @Value("${mock-employee-api.pool.max-connections}")
+    private int maxConnections;
+
+    @Value("${mock-employee-api.pool.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${mock-employee-api.pool.pending-acquire-timeout}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${mock-employee-api.pool.max-idle-time}")
+    private Duration maxIdleTime;
+
+    @Value("${mock-employee-api.pool.max-life-time}")
+    private Duration maxLifeTime;
+
+    @Value("${mock-employee-api.pool.evict-in-background}")
+    private Duration evictInBackground;
+
+    @Value("${mock-employee-api.pool.lifo}")
+    private boolean lifo;
+
+    @Value("${mock-employee-api.pool.metrics}")
+    private boolean poolMetrics;
+
+    @Value("${mock-employee-api.paging.enabled}")
+    private boolean pagingEnabled;
+
+    @Value("${mock-employee-api.paging.page-size}")
+    private int pageSize;
+
+    @Value("${mock-employee-api.paging.concurrency}")
+    private int pageConcurrency;
+
+    /**
+     * Connections to the mock API. LIFO leasing keeps reusing the most recently released connections so the rest go
+     * idle and are evicted; with {@code H2C} each connection multiplexes up to the server's stream limit.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider mockEmployeeApiConnectionProvider() {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("mock-employee-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(poolMetrics);
+        return (lifo ? builder.lifo() : builder.fifo()).build();
+    }
+
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        HttpClient httpClient = HttpClient.create()
+    public WebClient webClient(
+            WebClient.Builder builder,
+            ObjectMapper objectMapper,
+            ConnectionProvider connectionProvider,
+            MeterRegistry meterRegistry) {
+        // responseTimeout only watches reads while a response is expected; a ReadTimeoutHandler on the connection
+        // would also fire on idle pooled connections and close them
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(protocol)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectionTimeout.toMillis())
-                .doOnConnected(conn -> conn.addHandlerLast(
-                                new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+                .responseTimeout(readTimeout)
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
 
         ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .codecs(configurer -> {
+                    // an unpaged roster is buffered whole; a page stays far below this
+                    configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024);
+                    // the application ObjectMapper carries the hand-written Employee codec (EmployeeJsonComponent)
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                })
                 .build();
 
         return builder.baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .exchangeStrategies(strategies)
+                .filter(responseSize(meterRegistry))
                 .build();
     }
+
+    /**
+     * Records the bytes of each upstream response body as it streams through, so payload growth shows up without
+     * buffering the body. Bodies the caller cancels part-way are not recorded.
+     */
+    private static ExchangeFilterFunction responseSize(MeterRegistry meterRegistry) {
+        return (request, next) -> next.exchange(request).map(response -> {
+            DistributionSummary summary = DistributionSummary.builder("upstream.response.size")
+                    .description("Size of upstream response bodies")
+                    .baseUnit("bytes")
+                    .tag("method", request.method().name())
+                    .tag("status", String.valueOf(response.statusCode().value()))
+                    .register(meterRegistry);
+            AtomicLong bytes = new AtomicLong();
+            return response.mutate()
+                    .body(body -> body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                            .doOnComplete(() -> summary.record(bytes.get())))
+                    .build();
+        });
+    }
+
+    @Bean
+    public RosterPaging rosterPaging() {
+        return pagingEnabled ? new RosterPaging(true, pageSize, pageConcurrency) : RosterPaging.disabled();
+    }
+
+    @Bean
+    public DataArrayDecoder dataArrayDecoder(ObjectMapper objectMapper) {
+        return new DataArrayDecoder(objectMapper);
+    }
 }
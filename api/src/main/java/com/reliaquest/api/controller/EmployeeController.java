@@ -1,5 +1,7 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.Staleness;
+import com.reliaquest.api.index.SearchMode;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
@@ -7,14 +9,21 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/employee")
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
@@ -23,37 +32,52 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("GET request to fetch all employees");
-        return employeeService.getAllEmployees().map(ResponseEntity::ok).block();
+        return ok(employeeService.getAllEmployees());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        log.info("GET request to stream all employees");
+        return employeeService.streamAllEmployees();
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("GET request to search employees by name: {}", searchString);
-        return employeeService
-                .searchEmployeesByName(searchString)
-                .map(ResponseEntity::ok)
-                .block();
+        return ok(employeeService.searchEmployeesByName(searchString));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Employee>> searchEmployees(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "CONTAINS") SearchMode mode,
+            @RequestParam(required = false) Integer maxEdits) {
+        log.info("GET request to search employees by name: {} (mode: {})", name, mode);
+        return ok(employeeService.searchEmployeesByName(name, mode, maxEdits));
     }
 
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
         log.info("GET request to fetch employee by id: {}", id);
-        return employeeService.getEmployeeById(id).map(ResponseEntity::ok).block();
+        return ok(employeeService.getEmployeeById(id));
     }
 
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("GET request to fetch highest salary");
-        return employeeService.getHighestSalary().map(ResponseEntity::ok).block();
+        return ok(employeeService.getHighestSalary());
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("GET request to fetch top 10 highest earning employees");
-        return employeeService
-                .getTopTenHighestEarningEmployeeNames()
-                .map(ResponseEntity::ok)
-                .block();
+        return ok(employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    @GetMapping("/topEarners")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(defaultValue = "10") int n) {
+        log.info("GET request to fetch top {} highest earning employees", n);
+        return ok(employeeService.getTopEarners(n));
     }
 
     @Override
@@ -70,4 +94,12 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         log.info("DELETE request to delete employee by id: {}", id);
         return employeeService.deleteEmployeeById(id).map(ResponseEntity::ok).block();
     }
+
+    /** Blocks for a read, adding staleness headers when it was answered from an outdated roster snapshot. */
+    private static <T> ResponseEntity<T> ok(Mono<T> read) {
+        Staleness staleness = new Staleness();
+        return read.map(body -> ResponseEntity.ok().headers(staleness.headers()).body(body))
+                .contextWrite(staleness::attach)
+                .block();
+    }
 }
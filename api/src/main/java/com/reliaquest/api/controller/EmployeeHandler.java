@@ -0,0 +1,167 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.Staleness;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.ErrorResponses;
+import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.index.SearchMode;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeController} for the v2 functional routes. Every handler returns the
+ * service's reactive pipeline directly; errors are mapped to the same status codes and body as the v1 contract.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class EmployeeHandler {
+
+    private final EmployeeService employeeService;
+    private final Validator validator;
+
+    public Mono<ServerResponse> getAllEmployees(ServerRequest request) {
+        log.info("GET request to fetch all employees");
+        return ok(employeeService.getAllEmployees());
+    }
+
+    public Mono<ServerResponse> streamAllEmployees(ServerRequest request) {
+        log.info("GET request to stream all employees");
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(employeeService.streamAllEmployees(), Employee.class);
+    }
+
+    public Mono<ServerResponse> getEmployeesByNameSearch(ServerRequest request) {
+        String searchString = request.pathVariable("searchString");
+        log.info("GET request to search employees by name: {}", searchString);
+        return ok(employeeService.searchEmployeesByName(searchString));
+    }
+
+    public Mono<ServerResponse> searchEmployees(ServerRequest request) {
+        String name = request.queryParam("name")
+                .orElseThrow(() -> new ServerWebInputException("Missing parameter: name"));
+        SearchMode mode = request.queryParam("mode")
+                .map(value -> parse("mode", () -> SearchMode.valueOf(value)))
+                .orElse(SearchMode.CONTAINS);
+        Integer maxEdits = request.queryParam("maxEdits")
+                .map(value -> parse("maxEdits", () -> Integer.valueOf(value)))
+                .orElse(null);
+        log.info("GET request to search employees by name: {} (mode: {})", name, mode);
+        return ok(employeeService.searchEmployeesByName(name, mode, maxEdits));
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        log.info("GET request to fetch employee by id: {}", id);
+        return ok(employeeService.getEmployeeById(id));
+    }
+
+    public Mono<ServerResponse> getHighestSalaryOfEmployees(ServerRequest request) {
+        log.info("GET request to fetch highest salary");
+        return ok(employeeService.getHighestSalary());
+    }
+
+    public Mono<ServerResponse> getTopTenHighestEarningEmployeeNames(ServerRequest request) {
+        log.info("GET request to fetch top 10 highest earning employees");
+        return ok(employeeService.getTopTenHighestEarningEmployeeNames());
+    }
+
+    public Mono<ServerResponse> getTopEarners(ServerRequest request) {
+        int n = request.queryParam("n")
+                .map(value -> parse("n", () -> Integer.valueOf(value)))
+                .orElse(10);
+        log.info("GET request to fetch top {} highest earning employees", n);
+        return ok(employeeService.getTopEarners(n));
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        return request.bodyToMono(CreateEmployeeInput.class)
+                .switchIfEmpty(Mono.error(new ServerWebInputException("Request body is required")))
+                .flatMap(input -> {
+                    log.info("POST request to create employee: {}", input);
+                    Set<ConstraintViolation<CreateEmployeeInput>> violations = validator.validate(input);
+                    if (!violations.isEmpty()) {
+                        return validationFailed(violations);
+                    }
+                    return employeeService
+                            .createEmployee(input)
+                            .flatMap(employee ->
+                                    ServerResponse.status(HttpStatus.CREATED).bodyValue(employee));
+                });
+    }
+
+    public Mono<ServerResponse> deleteEmployeeById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        log.info("DELETE request to delete employee by id: {}", id);
+        return ok(employeeService.deleteEmployeeById(id));
+    }
+
+    public Mono<ServerResponse> handleError(Throwable error, ServerRequest request) {
+        if (error instanceof EmployeeNotFoundException) {
+            log.error("Employee not found", error);
+            return error(HttpStatus.NOT_FOUND, error.getMessage());
+        }
+        if (error instanceof ExternalApiException) {
+            log.error("External API error", error);
+            return error(HttpStatus.SERVICE_UNAVAILABLE, "Service temporarily unavailable");
+        }
+        if (error instanceof ResponseStatusException statusException) {
+            log.error("Invalid request: {}", statusException.getReason());
+            HttpStatus status = HttpStatus.valueOf(statusException.getStatusCode().value());
+            return error(status, statusException.getReason());
+        }
+        log.error("Unexpected error", error);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+    }
+
+    /** Adds staleness headers when the read was answered from an outdated roster snapshot. */
+    private <T> Mono<ServerResponse> ok(Mono<T> read) {
+        return Mono.defer(() -> {
+            Staleness staleness = new Staleness();
+            return read.flatMap(body -> ServerResponse.ok()
+                            .headers(headers -> headers.addAll(staleness.headers()))
+                            .bodyValue(body))
+                    .contextWrite(staleness::attach);
+        });
+    }
+
+    private Mono<ServerResponse> validationFailed(Set<ConstraintViolation<CreateEmployeeInput>> violations) {
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        log.error("Validation error: {}", errors);
+        return ServerResponse.badRequest()
+                .bodyValue(ErrorResponses.body(HttpStatus.BAD_REQUEST, "Validation failed", errors));
+    }
+
+    private Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).bodyValue(ErrorResponses.body(status, message, null));
+    }
+
+    private static <T> T parse(String parameter, Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("Invalid value for parameter: " + parameter);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.api.controller;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@Profile("reactive")
+public class EmployeeRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes(EmployeeHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/v2/employee", builder -> builder.GET("/search", handler::searchEmployees)
+                        .GET("/search/{searchString}", handler::getEmployeesByNameSearch)
+                        .GET("/highestSalary", handler::getHighestSalaryOfEmployees)
+                        .GET("/topTenHighestEarningEmployeeNames", handler::getTopTenHighestEarningEmployeeNames)
+                        .GET("/topEarners", handler::getTopEarners)
+                        .GET("/stream", handler::streamAllEmployees)
+                        .GET("/{id}", handler::getEmployeeById)
+                        .GET("", handler::getAllEmployees)
+                        .POST("", handler::createEmployee)
+                        .DELETE("/{id}", handler::deleteEmployeeById))
+                .onError(Throwable.class, handler::handleError)
+                .build();
+    }
+}
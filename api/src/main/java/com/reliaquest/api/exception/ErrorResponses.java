@@ -0,0 +1,24 @@
+package com.reliaquest.api.exception;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+
+/** Error body shared by the v1 controller advice and the v2 functional routes. */
+public final class ErrorResponses {
+
+    private ErrorResponses() {}
+
+    public static Map<String, Object> body(HttpStatus status, String message, Map<String, String> errors) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", status.value());
+        response.put("error", status.getReasonPhrase());
+        response.put("message", message);
+        if (errors != null) {
+            response.put("errors", errors);
+        }
+        return response;
+    }
+}
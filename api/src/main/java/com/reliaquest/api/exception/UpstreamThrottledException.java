@@ -0,0 +1,8 @@
+package com.reliaquest.api.exception;
+
+public class UpstreamThrottledException extends ExternalApiException {
+
+    public UpstreamThrottledException(String message) {
+        super(message);
+    }
+}
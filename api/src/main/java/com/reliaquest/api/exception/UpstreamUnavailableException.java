@@ -0,0 +1,8 @@
+package com.reliaquest.api.exception;
+
+public class UpstreamUnavailableException extends ExternalApiException {
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,284 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Case-folded trigram inverted index over employee names. Names are folded once when the index is built, and a query
+ * intersects the posting lists of its own trigrams to narrow the candidates before verifying them, so a search no
+ * longer lowercases or scans every name. Queries shorter than a trigram fall back to a scan of the pre-folded names.
+ *
+ * <p>Instances are immutable. {@link #withAdded} appends a document and copies only the touched posting lists;
+ * {@link #withRemoved} leaves a tombstone that is skipped during verification, and the index is compacted once
+ * tombstones make up a quarter of it. Results are returned in roster order.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+    private static final int MAX_EDITS = 2;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final Employee[] documents;
+    private final String[] foldedNames;
+    private final Map<Long, int[]> postings;
+    private final int live;
+
+    private NameIndex(Employee[] documents, String[] foldedNames, Map<Long, int[]> postings, int live) {
+        this.documents = documents;
+        this.foldedNames = foldedNames;
+        this.postings = postings;
+        this.live = live;
+    }
+
+    public static NameIndex of(List<Employee> roster) {
+        Employee[] documents = roster.toArray(new Employee[0]);
+        String[] foldedNames = new String[documents.length];
+        Map<Long, PostingsBuilder> builders = new HashMap<>();
+        for (int doc = 0; doc < documents.length; doc++) {
+            String folded = fold(documents[doc].getName());
+            foldedNames[doc] = folded;
+            for (int i = 0; i + GRAM <= folded.length(); i++) {
+                builders.computeIfAbsent(trigram(folded, i), key -> new PostingsBuilder())
+                        .add(doc);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+        return new NameIndex(documents, foldedNames, postings, documents.length);
+    }
+
+    public int size() {
+        return live;
+    }
+
+    public List<Employee> search(String query, SearchMode mode) {
+        return search(query, mode, defaultMaxEdits(query));
+    }
+
+    public List<Employee> search(String query, SearchMode mode, int maxEdits) {
+        String folded = fold(query);
+        return switch (mode) {
+            case CONTAINS -> exactSearch(folded, false);
+            case PREFIX -> exactSearch(folded, true);
+            case FUZZY -> fuzzySearch(folded, Math.max(0, Math.min(maxEdits, MAX_EDITS)));
+        };
+    }
+
+    public NameIndex withAdded(Employee employee) {
+        int doc = documents.length;
+        Employee[] newDocuments = Arrays.copyOf(documents, doc + 1);
+        String[] newFoldedNames = Arrays.copyOf(foldedNames, doc + 1);
+        String folded = fold(employee.getName());
+        newDocuments[doc] = employee;
+        newFoldedNames[doc] = folded;
+
+        Map<Long, int[]> newPostings = new HashMap<>(postings);
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            long key = trigram(folded, i);
+            int[] existing = newPostings.getOrDefault(key, NO_POSTINGS);
+            if (existing.length == 0 || existing[existing.length - 1] != doc) {
+                int[] appended = Arrays.copyOf(existing, existing.length + 1);
+                appended[existing.length] = doc;
+                newPostings.put(key, appended);
+            }
+        }
+        return new NameIndex(newDocuments, newFoldedNames, newPostings, live + 1);
+    }
+
+    public NameIndex withRemoved(Employee employee) {
+        for (int doc = 0; doc < documents.length; doc++) {
+            if (documents[doc] != null && Objects.equals(documents[doc].getId(), employee.getId())) {
+                Employee[] newDocuments = documents.clone();
+                String[] newFoldedNames = foldedNames.clone();
+                newDocuments[doc] = null;
+                newFoldedNames[doc] = null;
+                NameIndex removed = new NameIndex(newDocuments, newFoldedNames, postings, live - 1);
+                return removed.needsCompaction() ? NameIndex.of(removed.liveDocuments()) : removed;
+            }
+        }
+        return this;
+    }
+
+    private List<Employee> exactSearch(String query, boolean prefix) {
+        List<Employee> matches = new ArrayList<>();
+        if (query.length() < GRAM) {
+            for (int doc = 0; doc < documents.length; doc++) {
+                if (documents[doc] != null && matches(foldedNames[doc], query, prefix)) {
+                    matches.add(documents[doc]);
+                }
+            }
+            return matches;
+        }
+
+        int[][] lists = new int[query.length() - GRAM + 1][];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.getOrDefault(trigram(query, i), NO_POSTINGS);
+            if (lists[i].length == 0) {
+                return Collections.emptyList();
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] candidates = lists[0];
+        int count = candidates.length;
+        for (int i = 1; i < lists.length && count > 0; i++) {
+            candidates = intersect(candidates, count, lists[i]);
+            count = candidates.length;
+        }
+        for (int i = 0; i < count; i++) {
+            int doc = candidates[i];
+            if (documents[doc] != null && matches(foldedNames[doc], query, prefix)) {
+                matches.add(documents[doc]);
+            }
+        }
+        return matches;
+    }
+
+    private List<Employee> fuzzySearch(String query, int maxEdits) {
+        List<Employee> matches = new ArrayList<>();
+        int[] previous = new int[query.length() + 1];
+        int[] current = new int[query.length() + 1];
+
+        // q-gram lemma: a fragment within k edits of the query still shares (|q| - 2) - 3k of its trigrams
+        int threshold = query.length() - GRAM + 1 - GRAM * maxEdits;
+        if (threshold <= 0) {
+            for (int doc = 0; doc < documents.length; doc++) {
+                if (documents[doc] != null
+                        && withinDistance(query, foldedNames[doc], maxEdits, previous, current)) {
+                    matches.add(documents[doc]);
+                }
+            }
+            return matches;
+        }
+
+        int[] hits = new int[documents.length];
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            for (int doc : postings.getOrDefault(trigram(query, i), NO_POSTINGS)) {
+                hits[doc]++;
+            }
+        }
+        for (int doc = 0; doc < documents.length; doc++) {
+            if (hits[doc] >= threshold
+                    && documents[doc] != null
+                    && withinDistance(query, foldedNames[doc], maxEdits, previous, current)) {
+                matches.add(documents[doc]);
+            }
+        }
+        return matches;
+    }
+
+    private boolean needsCompaction() {
+        int tombstones = documents.length - live;
+        return tombstones > 16 && tombstones * 4 >= documents.length;
+    }
+
+    private List<Employee> liveDocuments() {
+        List<Employee> employees = new ArrayList<>(live);
+        for (Employee document : documents) {
+            if (document != null) {
+                employees.add(document);
+            }
+        }
+        return employees;
+    }
+
+    private static boolean matches(String name, String query, boolean prefix) {
+        if (!prefix) {
+            return name.contains(query);
+        }
+        for (int at = name.indexOf(query); at >= 0; at = name.indexOf(query, at + 1)) {
+            if (at == 0 || !Character.isLetterOrDigit(name.charAt(at - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Approximate substring match: true if some fragment of {@code text} is within {@code maxEdits} insertions,
+     * deletions or substitutions of {@code pattern}.
+     */
+    private static boolean withinDistance(String pattern, String text, int maxEdits, int[] previous, int[] current) {
+        int m = pattern.length();
+        if (m <= maxEdits) {
+            return true;
+        }
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            current[0] = 0;
+            for (int i = 1; i <= m; i++) {
+                int substitution = previous[i - 1] + (pattern.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            if (current[m] <= maxEdits) {
+                return true;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return false;
+    }
+
+    private static int[] intersect(int[] left, int leftCount, int[] right) {
+        int[] result = new int[Math.min(leftCount, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < leftCount && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int defaultMaxEdits(String query) {
+        int length = query == null ? 0 : query.length();
+        return length < 4 ? 0 : length < 8 ? 1 : MAX_EDITS;
+    }
+
+    private static String fold(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static final class PostingsBuilder {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && values[size - 1] == doc) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = doc;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Employees ordered by salary, highest first, with ties kept in roster order. Built once per roster snapshot with a
+ * primitive sort; highest salary is O(1), top-N is O(N), and {@link #withAdded}/{@link #withRemoved} patch the order
+ * with a binary search and an array copy instead of a re-sort. Instances are immutable so readers of an older
+ * snapshot are never affected by a patch. Employees without a salary are not indexed.
+ */
+public final class SalaryIndex {
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new int[0], new Employee[0]);
+
+    private final int[] salaries;
+    private final Employee[] employees;
+
+    private SalaryIndex(int[] salaries, Employee[] employees) {
+        this.salaries = salaries;
+        this.employees = employees;
+    }
+
+    public static SalaryIndex empty() {
+        return EMPTY;
+    }
+
+    public static SalaryIndex of(List<Employee> roster) {
+        long[] keys = new long[roster.size()];
+        int count = 0;
+        for (int position = 0; position < roster.size(); position++) {
+            Integer salary = roster.get(position).getSalary();
+            if (salary != null) {
+                // ~salary sorts higher salaries first; the low word keeps roster order for ties
+                keys[count++] = ((long) ~salary << 32) | position;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] salaries = new int[count];
+        Employee[] employees = new Employee[count];
+        for (int i = 0; i < count; i++) {
+            salaries[i] = ~(int) (keys[i] >> 32);
+            employees[i] = roster.get((int) keys[i]);
+        }
+        return new SalaryIndex(salaries, employees);
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public int highestSalary() {
+        return salaries.length == 0 ? 0 : salaries[0];
+    }
+
+    public List<Employee> top(int n) {
+        int limit = Math.max(0, Math.min(n, employees.length));
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(employees, limit)));
+    }
+
+    public List<String> topNames(int n) {
+        int limit = Math.max(0, Math.min(n, employees.length));
+        List<String> names = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            names.add(employees[i].getName());
+        }
+        return names;
+    }
+
+    public SalaryIndex withAdded(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            return this;
+        }
+        int insertAt = endOfSalary(salary);
+        int[] newSalaries = new int[salaries.length + 1];
+        Employee[] newEmployees = new Employee[employees.length + 1];
+        System.arraycopy(salaries, 0, newSalaries, 0, insertAt);
+        System.arraycopy(employees, 0, newEmployees, 0, insertAt);
+        newSalaries[insertAt] = salary;
+        newEmployees[insertAt] = employee;
+        System.arraycopy(salaries, insertAt, newSalaries, insertAt + 1, salaries.length - insertAt);
+        System.arraycopy(employees, insertAt, newEmployees, insertAt + 1, employees.length - insertAt);
+        return new SalaryIndex(newSalaries, newEmployees);
+    }
+
+    public SalaryIndex withRemoved(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            return this;
+        }
+        int end = endOfSalary(salary);
+        for (int i = end - 1; i >= 0 && salaries[i] == salary; i--) {
+            if (Objects.equals(employees[i].getId(), employee.getId())) {
+                int[] newSalaries = new int[salaries.length - 1];
+                Employee[] newEmployees = new Employee[employees.length - 1];
+                System.arraycopy(salaries, 0, newSalaries, 0, i);
+                System.arraycopy(employees, 0, newEmployees, 0, i);
+                System.arraycopy(salaries, i + 1, newSalaries, i, salaries.length - i - 1);
+                System.arraycopy(employees, i + 1, newEmployees, i, employees.length - i - 1);
+                return new SalaryIndex(newSalaries, newEmployees);
+            }
+        }
+        return this;
+    }
+
+    /** First position whose salary is strictly lower than {@code salary}, i.e. just past the run of equal salaries. */
+    private int endOfSalary(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
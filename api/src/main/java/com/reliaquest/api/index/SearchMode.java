@@ -0,0 +1,10 @@
+package com.reliaquest.api.index;
+
+public enum SearchMode {
+    /** Name contains the query anywhere. */
+    CONTAINS,
+    /** A word in the name starts with the query. */
+    PREFIX,
+    /** Name contains a fragment within a bounded edit distance of the query. */
+    FUZZY
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** First event of an upstream change feed connection; {@code resumed} is false when the roster must be refetched. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedSync {
+    private long sequence;
+    private boolean resumed;
+}
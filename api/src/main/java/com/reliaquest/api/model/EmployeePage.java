@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One page of the upstream's cursor-paged roster; only the first page carries {@code cursors}. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+    private List<Employee> employees;
+    private int total;
+    private String next;
+    private List<String> cursors;
+}
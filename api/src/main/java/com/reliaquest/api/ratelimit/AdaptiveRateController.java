@@ -0,0 +1,250 @@
+package com.reliaquest.api.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gates upstream calls against a learned model of the mock API's request limit: the upstream accepts a fixed number
+ * of requests, then rejects everything with 429 until a cooldown has passed since the last accepted one. The first
+ * request after the cooldown resets its count.
+ *
+ * <ul>
+ *   <li>The <b>limit</b> is unknown until the first 429, which reveals it as the number of requests accepted since
+ *       the last reset.
+ *   <li>The <b>cooldown</b> starts at {@code initialCooldown}. The request that ends a penalty is sent alone as a
+ *       probe: a 429 raises the known-failing floor, an accepted probe lowers the known-passing ceiling, and later
+ *       penalties bisect between the two until they are within {@code resolution}.
+ * </ul>
+ *
+ * Once the limit is used up, {@link #tryAcquire} tells callers how long to wait out the cooldown locally instead of
+ * spending requests (and retries) on the penalty window. Permits are handed out by the {@link UpstreamScheduler}.
+ */
+@Slf4j
+public class AdaptiveRateController {
+
+    private static final Duration IN_FLIGHT_POLL = Duration.ofMillis(50);
+
+    private final Duration initialCooldown;
+    private final Duration maxCooldown;
+    private final Duration resolution;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private int limit = Integer.MAX_VALUE;
+    private Duration cooldown;
+    private Duration cooldownFloor = Duration.ZERO;
+    private Duration cooldownCeiling;
+    private int count;
+    private int inFlight;
+    private boolean probeInFlight;
+    private Instant lastAcceptedAt;
+    private Instant blockedUntil;
+    private boolean blockedSinceLastAccepted;
+
+    public AdaptiveRateController(Duration initialCooldown, Duration maxCooldown, Duration resolution, Clock clock) {
+        this.cooldown = initialCooldown;
+        this.initialCooldown = initialCooldown;
+        this.maxCooldown = maxCooldown;
+        this.resolution = resolution;
+        this.clock = clock;
+    }
+
+    Permit tryAcquire(Instant now) {
+        lock.lock();
+        try {
+            if (probeInFlight) {
+                return Permit.waitFor(IN_FLIGHT_POLL);
+            }
+            if (blockedUntil != null) {
+                if (now.isBefore(blockedUntil)) {
+                    return Permit.waitFor(Duration.between(now, blockedUntil));
+                }
+                blockedUntil = null;
+                inFlight++;
+                probeInFlight = true;
+                return Permit.probe(now, blockedSinceLastAccepted ? Duration.between(lastAcceptedAt, now) : null);
+            }
+            if (count + inFlight >= limit) {
+                if (inFlight > 0) {
+                    return Permit.waitFor(IN_FLIGHT_POLL);
+                }
+                blockedUntil = lastAcceptedAt.plus(cooldown);
+                blockedSinceLastAccepted = true;
+                log.debug("Upstream limit of {} used, holding requests for {}", limit, cooldown);
+                Duration wait = Duration.between(now, blockedUntil);
+                return Permit.waitFor(wait.isNegative() ? Duration.ZERO : wait);
+            }
+            inFlight++;
+            return Permit.granted(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onAccepted(Permit permit) {
+        lock.lock();
+        try {
+            release(permit);
+            if (lastAcceptedAt == null || permit.sentAt().isAfter(lastAcceptedAt)) {
+                lastAcceptedAt = permit.sentAt();
+            }
+            if (!permit.probe()) {
+                count++;
+                return;
+            }
+            // the request that ends a penalty resets the upstream count and is not itself counted
+            count = 0;
+            if (permit.sinceLastAccepted() != null) {
+                if (cooldownCeiling == null || permit.sinceLastAccepted().compareTo(cooldownCeiling) < 0) {
+                    cooldownCeiling = permit.sinceLastAccepted();
+                }
+                cooldown = nextCooldown();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a 429. {@code retryAfter}, when upstream supplies one, is taken as the exact remaining penalty and,
+     * measured from our last accepted request, as the cooldown.
+     */
+    void onRejected(Permit permit, Duration retryAfter) {
+        lock.lock();
+        try {
+            release(permit);
+            Instant now = clock.instant();
+            if (permit.probe()) {
+                if (permit.sinceLastAccepted() != null) {
+                    if (permit.sinceLastAccepted().compareTo(cooldownFloor) > 0) {
+                        cooldownFloor = permit.sinceLastAccepted();
+                    }
+                    if (cooldownCeiling != null && cooldownCeiling.compareTo(cooldownFloor) <= 0) {
+                        // contradicts an earlier observation (upstream restarted); learn the ceiling again
+                        cooldownCeiling = null;
+                    }
+                    cooldown = nextCooldown();
+                }
+            } else if (count > 0 && count < limit) {
+                limit = count;
+                log.debug("Upstream rejected request {} since its last reset, limit is {}", count + 1, limit);
+            }
+            Instant until;
+            boolean sinceLastAccepted;
+            if (retryAfter != null) {
+                until = now.plus(retryAfter);
+                sinceLastAccepted = false;
+                if (lastAcceptedAt != null && until.isAfter(lastAcceptedAt)) {
+                    learnFromRetryAfter(Duration.between(lastAcceptedAt, until));
+                }
+            } else if (lastAcceptedAt != null && lastAcceptedAt.plus(cooldown).isAfter(now)) {
+                until = lastAcceptedAt.plus(cooldown);
+                sinceLastAccepted = true;
+            } else {
+                // nothing we sent recently explains the 429 (another client, or an upstream restart)
+                until = now.plus(cooldown);
+                sinceLastAccepted = false;
+            }
+            if (blockedUntil == null || until.isAfter(blockedUntil)) {
+                blockedUntil = until;
+                blockedSinceLastAccepted = sinceLastAccepted;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onAbandoned(Permit permit) {
+        lock.lock();
+        try {
+            release(permit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit) {
+        inFlight--;
+        if (permit.probe()) {
+            probeInFlight = false;
+        }
+    }
+
+    /** Requests that may be sent right now without waiting. */
+    public int availablePermissions() {
+        lock.lock();
+        try {
+            if (probeInFlight || blockedUntil != null) {
+                return 0;
+            }
+            return Math.max(0, limit - count - inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The upstream limit, once a 429 has revealed it. */
+    public OptionalInt learnedLimit() {
+        lock.lock();
+        try {
+            return limit == Integer.MAX_VALUE ? OptionalInt.empty() : OptionalInt.of(limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration cooldown() {
+        lock.lock();
+        try {
+            return cooldown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Retry-After is whole seconds rounded up, so the cooldown it implies is exact to within a second. */
+    private void learnFromRetryAfter(Duration implied) {
+        Duration floor = implied.minusSeconds(1);
+        cooldownFloor = floor.isNegative() ? Duration.ZERO : floor;
+        cooldownCeiling = implied;
+        cooldown = nextCooldown();
+    }
+
+    private Duration nextCooldown() {
+        if (cooldownCeiling == null) {
+            Duration doubled = cooldownFloor.multipliedBy(2);
+            Duration next = doubled.compareTo(initialCooldown) > 0 ? doubled : initialCooldown;
+            return next.compareTo(maxCooldown) > 0 ? maxCooldown : next;
+        }
+        Duration gap = cooldownCeiling.minus(cooldownFloor);
+        return gap.compareTo(resolution) <= 0 ? cooldownCeiling : cooldownFloor.plus(gap.dividedBy(2));
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire}: either a grant stamped with its send time, or how long to wait before asking
+     * again. A probe is the single request that ends a penalty; {@code sinceLastAccepted} is set when that penalty was
+     * timed from our own last accepted request and the probe can therefore teach the cooldown.
+     */
+    record Permit(Instant sentAt, boolean probe, Duration sinceLastAccepted, Duration retryIn) {
+
+        static Permit granted(Instant sentAt) {
+            return new Permit(sentAt, false, null, Duration.ZERO);
+        }
+
+        static Permit probe(Instant sentAt, Duration sinceLastAccepted) {
+            return new Permit(sentAt, true, sinceLastAccepted, Duration.ZERO);
+        }
+
+        static Permit waitFor(Duration retryIn) {
+            return new Permit(null, false, null, retryIn);
+        }
+
+        boolean granted() {
+            return sentAt != null;
+        }
+    }
+}
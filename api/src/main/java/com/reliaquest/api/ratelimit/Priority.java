@@ -0,0 +1,11 @@
+package com.reliaquest.api.ratelimit;
+
+/** Upstream request classes, in the order the {@link UpstreamScheduler} hands out permits. */
+public enum Priority {
+    /** Mutations a user is waiting on: create and delete. */
+    CRITICAL,
+    /** Single-employee reads that miss the cache. */
+    INTERACTIVE,
+    /** Full-roster loads; stale data can be served from the roster cache instead. */
+    BULK
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Queueing limits for one {@link Priority}: how long a request may wait for a permit and how many may wait at once.
+ */
+public record PriorityPolicy(Duration maxWait, int queueCapacity) {}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/** Reads the {@code Retry-After} header of an upstream error response, in either delta-seconds or HTTP-date form. */
+public final class RetryAfter {
+
+    private RetryAfter() {}
+
+    public static Optional<Duration> of(Throwable error) {
+        return of(error, Clock.systemUTC());
+    }
+
+    static Optional<Duration> of(Throwable error, Clock clock) {
+        if (!(error instanceof WebClientResponseException responseException)) {
+            return Optional.empty();
+        }
+        String value = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            long seconds = Long.parseLong(value.trim());
+            return seconds < 0 ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+        } catch (NumberFormatException e) {
+            // not delta-seconds, try an HTTP-date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration remaining = Duration.between(clock.instant(), date.toInstant());
+            return Optional.of(remaining.isNegative() ? Duration.ZERO : remaining);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.reliaquest.api.ratelimit;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Hands out {@link AdaptiveRateController} permits to queued upstream calls, highest {@link Priority} first.
+ *
+ * <ul>
+ *   <li>Each priority has a bounded queue; a call arriving at a full queue fails immediately.
+ *   <li>A call that cannot get a permit before its {@link PriorityPolicy#maxWait()} runs out is dropped as soon as
+ *       that is known, without waiting for the deadline itself.
+ *   <li>{@link Priority#BULK} calls leave the last {@code bulkReserve} permits of a window to the other classes,
+ *       unless they have already waited {@code bulkReserveHold}.
+ * </ul>
+ *
+ * Dropped and rejected calls fail with {@link UpstreamThrottledException}. Time spent queued is recorded per priority
+ * and outcome as {@code upstream.scheduler.wait}; queue lengths are gauged as {@code upstream.scheduler.queued}.
+ */
+@Slf4j
+public class UpstreamScheduler {
+
+    private final AdaptiveRateController controller;
+    private final Map<Priority, PriorityPolicy> policies;
+    private final int bulkReserve;
+    private final Duration bulkReserveHold;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Priority, Deque<Waiter>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> grantedWaits = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> droppedWaits = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> rejectedWaits = new EnumMap<>(Priority.class);
+    private Disposable wakeUp;
+    private Instant wakeUpAt;
+
+    public UpstreamScheduler(
+            AdaptiveRateController controller,
+            Map<Priority, PriorityPolicy> policies,
+            int bulkReserve,
+            Duration bulkReserveHold,
+            Clock clock,
+            MeterRegistry meterRegistry) {
+        this.controller = controller;
+        this.policies = new EnumMap<>(policies);
+        this.bulkReserve = bulkReserve;
+        this.bulkReserveHold = bulkReserveHold;
+        this.clock = clock;
+        for (Priority priority : Priority.values()) {
+            if (!this.policies.containsKey(priority)) {
+                throw new IllegalArgumentException("No scheduling policy for priority " + priority);
+            }
+            queues.put(priority, new ArrayDeque<>());
+            grantedWaits.put(priority, waitTimer(meterRegistry, priority, "granted"));
+            droppedWaits.put(priority, waitTimer(meterRegistry, priority, "dropped"));
+            rejectedWaits.put(priority, waitTimer(meterRegistry, priority, "rejected"));
+            Gauge.builder("upstream.scheduler.queued", this, scheduler -> scheduler.queued(priority))
+                    .description("Upstream calls waiting for a permit")
+                    .tag("priority", tagValue(priority))
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, Priority priority, String outcome) {
+        return Timer.builder("upstream.scheduler.wait")
+                .description("Time upstream calls spent waiting for a permit")
+                .tag("priority", tagValue(priority))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Priority priority) {
+        return priority.name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Defers {@code call} until a permit is granted and feeds its outcome back into the controller. */
+    public <T> Mono<T> schedule(Priority priority, Mono<T> call) {
+        return acquire(priority).flatMap(waiter -> call.doOnSuccess(value -> accepted(waiter))
+                .doOnError(error -> failed(waiter, error))
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        cancelled(waiter);
+                    }
+                }));
+    }
+
+    /**
+     * Like {@link #schedule(Priority, Mono)}; the call counts as accepted once its first element or completion arrives.
+     */
+    public <T> Flux<T> scheduleMany(Priority priority, Flux<T> call) {
+        return acquire(priority).flatMapMany(waiter -> call.doOnNext(value -> accepted(waiter))
+                .doOnComplete(() -> accepted(waiter))
+                .doOnError(error -> failed(waiter, error))
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        cancelled(waiter);
+                    }
+                }));
+    }
+
+    /** Calls of {@code priority} currently waiting for a permit. */
+    public int queued(Priority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Mono<Waiter> acquire(Priority priority) {
+        PriorityPolicy policy = policies.get(priority);
+        return Mono.create(sink -> {
+            Instant now = clock.instant();
+            Waiter waiter = new Waiter(priority, sink, now, now.plus(policy.maxWait()));
+            sink.onCancel(() -> leave(waiter));
+            boolean full;
+            lock.lock();
+            try {
+                Deque<Waiter> queue = queues.get(priority);
+                full = queue.size() >= policy.queueCapacity();
+                if (!full) {
+                    queue.addLast(waiter);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (full) {
+                waiter.done.set(true);
+                rejectedWaits.get(priority).record(Duration.ZERO);
+                sink.error(new UpstreamThrottledException(
+                        "Upstream queue for " + priority + " calls is full (" + policy.queueCapacity() + ")"));
+                return;
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Grants permits to queue heads in priority order until the controller runs out, then arranges to be called again
+     * when the next permit is due. Sinks are signalled after the lock is released.
+     */
+    private void drain() {
+        List<Runnable> signals = new ArrayList<>();
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            Instant next = null;
+            Waiter head;
+            while ((head = nextWaiter(now, signals)) != null) {
+                if (head.priority == Priority.BULK && holdsBulkReserve(head, now)) {
+                    Instant holdEnds = head.enqueuedAt.plus(bulkReserveHold);
+                    next = holdEnds.isBefore(head.deadline) ? holdEnds : head.deadline;
+                    break;
+                }
+                AdaptiveRateController.Permit permit = controller.tryAcquire(now);
+                if (!permit.granted()) {
+                    next = now.plus(permit.retryIn());
+                    dropUnservable(now, next, signals);
+                    break;
+                }
+                queues.get(head.priority).pollFirst();
+                Waiter granted = head;
+                granted.permit = permit;
+                if (granted.done.compareAndSet(false, true)) {
+                    grantedWaits.get(granted.priority).record(Duration.between(granted.enqueuedAt, now));
+                    signals.add(() -> granted.sink.success(granted));
+                } else {
+                    controller.onAbandoned(permit);
+                }
+            }
+            if (next != null) {
+                wakeUpAt(next, now);
+            }
+        } finally {
+            lock.unlock();
+        }
+        signals.forEach(Runnable::run);
+    }
+
+    /** The head of the highest non-empty queue, failing heads whose deadline has already passed. */
+    private Waiter nextWaiter(Instant now, List<Runnable> signals) {
+        for (Priority priority : Priority.values()) {
+            Deque<Waiter> queue = queues.get(priority);
+            Waiter head;
+            while ((head = queue.peekFirst()) != null) {
+                if (!head.deadline.isBefore(now)) {
+                    return head;
+                }
+                queue.pollFirst();
+                drop(head, now, signals);
+            }
+        }
+        return null;
+    }
+
+    private boolean holdsBulkReserve(Waiter waiter, Instant now) {
+        if (!now.isBefore(waiter.enqueuedAt.plus(bulkReserveHold))) {
+            return false;
+        }
+        int available = controller.availablePermissions();
+        return available > 0 && available <= bulkReserve;
+    }
+
+    /** Fails every queued call whose deadline comes before the next permit can. */
+    private void dropUnservable(Instant now, Instant nextPermitAt, List<Runnable> signals) {
+        for (Deque<Waiter> queue : queues.values()) {
+            Iterator<Waiter> waiters = queue.iterator();
+            while (waiters.hasNext()) {
+                Waiter waiter = waiters.next();
+                if (waiter.deadline.isBefore(nextPermitAt)) {
+                    waiters.remove();
+                    drop(waiter, now, signals);
+                }
+            }
+        }
+    }
+
+    private void drop(Waiter waiter, Instant now, List<Runnable> signals) {
+        if (waiter.done.compareAndSet(false, true)) {
+            droppedWaits.get(waiter.priority).record(Duration.between(waiter.enqueuedAt, now));
+            log.debug("Dropping {} upstream call that cannot get a permit in time", waiter.priority);
+            PriorityPolicy policy = policies.get(waiter.priority);
+            signals.add(() -> waiter.sink.error(new UpstreamThrottledException(
+                    "No upstream permit for " + waiter.priority + " call within " + policy.maxWait())));
+        }
+    }
+
+    private void wakeUpAt(Instant at, Instant now) {
+        if (wakeUp != null && !wakeUp.isDisposed() && !at.isBefore(wakeUpAt)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.dispose();
+        }
+        Duration delay = at.isAfter(now) ? Duration.between(now, at) : Duration.ZERO;
+        wakeUpAt = at;
+        wakeUp = Schedulers.parallel().schedule(this::onWakeUp, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void onWakeUp() {
+        lock.lock();
+        try {
+            wakeUp = null;
+            wakeUpAt = null;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void leave(Waiter waiter) {
+        if (waiter.done.compareAndSet(false, true)) {
+            lock.lock();
+            try {
+                queues.get(waiter.priority).remove(waiter);
+            } finally {
+                lock.unlock();
+            }
+        } else if (waiter.permit != null) {
+            // granted while the caller was cancelling; the call may never be subscribed
+            cancelled(waiter);
+        }
+    }
+
+    private void accepted(Waiter waiter) {
+        if (waiter.settled.compareAndSet(false, true)) {
+            controller.onAccepted(waiter.permit);
+            drain();
+        }
+    }
+
+    private void failed(Waiter waiter, Throwable error) {
+        if (waiter.settled.compareAndSet(false, true)) {
+            if (error instanceof WebClientResponseException.TooManyRequests) {
+                controller.onRejected(waiter.permit, RetryAfter.of(error).orElse(null));
+            } else if (error instanceof WebClientResponseException) {
+                // any other status means the request got past the upstream limiter and was counted
+                controller.onAccepted(waiter.permit);
+            } else {
+                controller.onAbandoned(waiter.permit);
+            }
+            drain();
+        }
+    }
+
+    private void cancelled(Waiter waiter) {
+        if (waiter.settled.compareAndSet(false, true)) {
+            // a plain request may already have been counted upstream; a probe's effect is unknown, so probe again
+            if (waiter.permit.probe()) {
+                controller.onAbandoned(waiter.permit);
+            } else {
+                controller.onAccepted(waiter.permit);
+            }
+            drain();
+        }
+    }
+
+    /**
+     * One queued call. {@code done} is set once it leaves the queue (granted, dropped or cancelled); {@code settled}
+     * once the outcome of its permit has been reported to the controller. The permit is written before {@code done}.
+     */
+    private static final class Waiter {
+
+        private final Priority priority;
+        private final MonoSink<Waiter> sink;
+        private final Instant enqueuedAt;
+        private final Instant deadline;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile AdaptiveRateController.Permit permit;
+
+        private Waiter(Priority priority, MonoSink<Waiter> sink, Instant enqueuedAt, Instant deadline) {
+            this.priority = priority;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+            this.deadline = deadline;
+        }
+    }
+}
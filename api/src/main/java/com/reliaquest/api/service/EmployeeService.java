@@ -1,27 +1,49 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.IdLookup;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.cache.SingleFlight;
+import com.reliaquest.api.cache.Staleness;
+import com.reliaquest.api.codec.DataArrayDecoder;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import com.reliaquest.api.index.SearchMode;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.MockApiResponse;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.Retry;
-import java.util.Comparator;
+import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.ContextView;
 
 @Slf4j
 @Service
@@ -30,38 +52,244 @@ public class EmployeeService {
 
     private final WebClient webClient;
     private final Retry retry;
-    private final RateLimiter rateLimiter;
+    private final UpstreamScheduler upstreamScheduler;
+    private final CircuitBreaker circuitBreaker;
+    private final RosterCache rosterCache;
+    private final DataArrayDecoder dataArrayDecoder;
+    private final RosterPaging rosterPaging;
+    private final SingleFlight<String, Employee> employeeLookups = new SingleFlight<>();
+    private final AtomicReference<ValidatedRoster> validatedRoster = new AtomicReference<>();
 
     public Mono<List<Employee>> getAllEmployees() {
         log.debug("Fetching all employees");
-        return webClient
-                .get()
+        return rosterSnapshot().map(RosterSnapshot::employees);
+    }
+
+    /**
+     * The current roster snapshot. While the upstream circuit is open, a cold or disabled cache falls back to the last
+     * snapshot it installed. Snapshots past the cache TTL are recorded as {@link Staleness}.
+     */
+    private Mono<RosterSnapshot> rosterSnapshot() {
+        return Mono.deferContextual(context -> rosterCache
+                .get(this::fetchAllEmployees)
+                .doOnNext(snapshot -> {
+                    if (rosterCache.isStale(snapshot)) {
+                        Staleness.record(context, rosterCache.age(snapshot));
+                    }
+                })
+                .onErrorResume(UpstreamUnavailableException.class, error -> rosterCache
+                        .current()
+                        .map(snapshot -> lastKnownGood(context, snapshot, snapshot))
+                        .orElseGet(() -> Mono.error(error))));
+    }
+
+    /** Refetches the roster into the cache, joining a load already in flight. */
+    public Mono<RosterSnapshot> refreshRoster() {
+        return rosterCache.refresh(this::fetchAllEmployees);
+    }
+
+    private <T> Mono<T> lastKnownGood(ContextView context, RosterSnapshot snapshot, T value) {
+        log.warn("Upstream circuit is open, serving roster snapshot version {}", snapshot.version());
+        Staleness.record(context, rosterCache.age(snapshot));
+        return Mono.just(value);
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return rosterPaging.enabled() ? fetchAllEmployeesPaged() : fetchAllEmployeesAtOnce();
+    }
+
+    private Mono<List<Employee>> fetchAllEmployeesAtOnce() {
+        log.debug("Fetching all employees from upstream");
+        ValidatedRoster validated = validatedRoster.get();
+        return conditional(webClient.get(), validated)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<MockApiResponse<List<Employee>>>() {})
+                .toEntity(new ParameterizedTypeReference<MockApiResponse<List<Employee>>>() {})
+                .transformDeferred(call -> upstreamScheduler.schedule(Priority.BULK, call))
                 .transformDeferred(RetryOperator.of(retry))
-                .transformDeferred(RateLimiterOperator.of(rateLimiter))
-                .map(MockApiResponse::getData)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(entity -> isNotModified(entity, validated)
+                        ? validated.employees()
+                        : remember(entity, entity.getBody().getData()))
                 .doOnSuccess(employees -> log.debug("Successfully fetched {} employees", employees.size()))
                 .doOnError(error -> log.error("Error fetching all employees", error))
                 .onErrorMap(this::mapException);
     }
 
+    private Mono<List<Employee>> fetchAllEmployeesPaged() {
+        log.debug("Fetching all employees from upstream in pages of {}", rosterPaging.pageSize());
+        ValidatedRoster validated = validatedRoster.get();
+        return firstPage(validated)
+                .flatMap(entity -> isNotModified(entity, validated)
+                        ? Mono.just(validated.employees())
+                        : upstreamPages(entity.getBody().getData())
+                                .concatMapIterable(EmployeePage::getEmployees)
+                                .collectList()
+                                .map(employees -> remember(entity, employees)))
+                .doOnSuccess(employees -> log.debug("Successfully fetched {} employees", employees.size()))
+                .doOnError(error -> log.error("Error fetching all employees", error))
+                .onErrorMap(this::mapException);
+    }
+
+    /**
+     * Revalidates the last roster fetched in full: while the upstream ETag still matches it answers 304 with no body,
+     * and that roster is reused as is. Mutations upstream change the ETag, so a 304 never hides one of them.
+     */
+    private WebClient.RequestHeadersSpec<?> conditional(
+            WebClient.RequestHeadersSpec<?> request, ValidatedRoster validated) {
+        return validated == null ? request : request.ifNoneMatch(validated.etag());
+    }
+
+    private static boolean isNotModified(ResponseEntity<?> entity, ValidatedRoster validated) {
+        return validated != null && entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    private List<Employee> remember(ResponseEntity<?> entity, List<Employee> employees) {
+        String etag = entity.getHeaders().getETag();
+        validatedRoster.set(etag == null ? null : new ValidatedRoster(etag, employees));
+        return employees;
+    }
+
+    private Mono<ResponseEntity<MockApiResponse<EmployeePage>>> firstPage(ValidatedRoster validated) {
+        return conditional(
+                        webClient.get().uri(uri -> uri.queryParam("size", rosterPaging.pageSize()).build()),
+                        validated)
+                .retrieve()
+                .toEntity(new ParameterizedTypeReference<MockApiResponse<EmployeePage>>() {})
+                .transformDeferred(call -> upstreamScheduler.schedule(Priority.BULK, call))
+                .transformDeferred(RetryOperator.of(retry))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * The roster as cursor pages of one upstream snapshot, in order. The first page lists every later cursor, which
+     * are then fetched up to {@link RosterPaging#concurrency()} at a time. Each page is scheduled, retried and counted
+     * by the circuit breaker on its own, and at most that many pages are buffered.
+     */
+    private Flux<EmployeePage> upstreamPages(EmployeePage first) {
+        return Flux.fromIterable(first.getCursors() == null ? List.<String>of() : first.getCursors())
+                .flatMapSequential(
+                        cursor -> fetchPage(uri -> uri.queryParam("cursor", cursor).build()),
+                        rosterPaging.concurrency())
+                .startWith(first);
+    }
+
+    private Mono<EmployeePage> fetchPage(Function<UriBuilder, URI> uri) {
+        return webClient
+                .get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<MockApiResponse<EmployeePage>>() {})
+                .transformDeferred(call -> upstreamScheduler.schedule(Priority.BULK, call))
+                .transformDeferred(RetryOperator.of(retry))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .map(MockApiResponse::getData);
+    }
+
+    /**
+     * Emits the roster one employee at a time. A warm cache is replayed from its snapshot; otherwise the upstream
+     * roster is streamed page by page when paging is enabled, or else decoded incrementally from one response. Nothing
+     * is cached on the upstream paths. A failed upstream call is retried only until its first employee is emitted;
+     * after that the stream fails rather than restart a roster that may have changed in between.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        log.debug("Streaming all employees");
+        return Flux.defer(() -> {
+            if (rosterCache.isWarm()) {
+                return rosterSnapshot().flatMapIterable(RosterSnapshot::employees);
+            }
+            return rosterPaging.enabled() ? streamAllEmployeesPaged() : streamAllEmployeesFromUpstream();
+        });
+    }
+
+    private Flux<Employee> streamAllEmployeesPaged() {
+        ValidatedRoster validated = validatedRoster.get();
+        return firstPage(validated)
+                .flatMapMany(entity -> isNotModified(entity, validated)
+                        ? Flux.fromIterable(validated.employees())
+                        : upstreamPages(entity.getBody().getData()).concatMapIterable(EmployeePage::getEmployees))
+                .doOnError(error -> log.error("Error streaming all employees", error))
+                .onErrorMap(this::mapException);
+    }
+
+    private Flux<Employee> streamAllEmployeesFromUpstream() {
+        return Flux.defer(() -> {
+                    AtomicBoolean started = new AtomicBoolean();
+                    return dataArrayDecoder
+                            .decode(webClient.get().retrieve().bodyToFlux(DataBuffer.class), Employee.class)
+                            .doOnNext(employee -> started.set(true))
+                            .transformDeferred(call -> upstreamScheduler.scheduleMany(Priority.BULK, call))
+                            .materialize()
+                            // once an employee is out, a failure is passed through as a signal so it is not retried
+                            .<Signal<Employee>>handle((signal, sink) -> {
+                                if (signal.isOnError() && !started.get()) {
+                                    sink.error(signal.getThrowable());
+                                } else {
+                                    sink.next(signal);
+                                }
+                            });
+                })
+                .transformDeferred(RetryOperator.of(retry))
+                .<Employee>dematerialize()
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnComplete(() -> log.debug("Successfully streamed all employees"))
+                .doOnError(error -> log.error("Error streaming all employees", error))
+                .onErrorMap(this::mapException);
+    }
+
     public Mono<List<Employee>> searchEmployeesByName(String searchString) {
         log.debug("Searching employees by name: {}", searchString);
-        return getAllEmployees().map(employees -> employees.stream()
-                .filter(employee -> employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .collect(Collectors.toList()));
+        return rosterSnapshot().map(snapshot -> snapshot.nameIndex().search(searchString, SearchMode.CONTAINS));
+    }
+
+    public Mono<List<Employee>> searchEmployeesByName(String searchString, SearchMode mode, Integer maxEdits) {
+        log.debug("Searching employees by name: {} (mode: {}, max edits: {})", searchString, mode, maxEdits);
+        return rosterSnapshot()
+                .map(snapshot -> maxEdits == null
+                        ? snapshot.nameIndex().search(searchString, mode)
+                        : snapshot.nameIndex().search(searchString, mode, maxEdits))
+                .doOnSuccess(employees -> log.debug("Found {} employees matching: {}", employees.size(), searchString));
     }
 
     public Mono<Employee> getEmployeeById(String id) {
         log.debug("Fetching employee by id: {}", id);
+        return Mono.deferContextual(context -> {
+            IdLookup lookup = rosterCache.lookup(id);
+            return switch (lookup.outcome()) {
+                case HIT -> Mono.just(lookup.employee());
+                case MISS -> Mono.error(new EmployeeNotFoundException("Employee not found"));
+                case UPSTREAM -> employeeLookups
+                        .execute(id, () -> fetchEmployeeById(id))
+                        .onErrorResume(
+                                UpstreamUnavailableException.class, error -> lastKnownEmployee(context, id, error));
+            };
+        });
+    }
+
+    /** Only an employee present in the last snapshot is served; absence there proves nothing about upstream. */
+    private Mono<Employee> lastKnownEmployee(ContextView context, String id, UpstreamUnavailableException error) {
+        Optional<RosterSnapshot> current = rosterCache.current();
+        if (current.isEmpty()) {
+            return Mono.error(error);
+        }
+        Employee employee;
+        try {
+            employee = current.get().employeesById().get(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            employee = null;
+        }
+        return employee == null ? Mono.error(error) : lastKnownGood(context, current.get(), employee);
+    }
+
+    private Mono<Employee> fetchEmployeeById(String id) {
+        log.debug("Fetching employee by id from upstream: {}", id);
         return webClient
                 .get()
                 .uri("/{id}", id)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<MockApiResponse<Employee>>() {})
+                .transformDeferred(call -> upstreamScheduler.schedule(Priority.INTERACTIVE, call))
                 .transformDeferred(RetryOperator.of(retry))
-                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
                 .map(MockApiResponse::getData)
                 .doOnSuccess(employee -> log.debug("Successfully fetched employee: {}", employee))
                 .doOnError(error -> log.error("Error fetching employee by id: {}", id, error))
@@ -70,23 +298,25 @@ public class EmployeeService {
 
     public Mono<Integer> getHighestSalary() {
         log.debug("Finding highest salary among all employees");
-        return getAllEmployees()
-                .map(employees ->
-                        employees.stream().mapToInt(Employee::getSalary).max().orElse(0))
+        return rosterSnapshot()
+                .map(snapshot -> snapshot.salaryIndex().highestSalary())
                 .doOnSuccess(salary -> log.debug("Highest salary found: {}", salary));
     }
 
     public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.debug("Finding top 10 highest earning employees");
-        return getAllEmployees()
-                .map(employees -> employees.stream()
-                        .sorted(Comparator.comparing(Employee::getSalary).reversed())
-                        .limit(10)
-                        .map(Employee::getName)
-                        .collect(Collectors.toList()))
+        return rosterSnapshot()
+                .map(snapshot -> snapshot.salaryIndex().topNames(10))
                 .doOnSuccess(names -> log.debug("Top 10 highest earners: {}", names));
     }
 
+    public Mono<List<Employee>> getTopEarners(int n) {
+        log.debug("Finding top {} highest earning employees", n);
+        return rosterSnapshot()
+                .map(snapshot -> snapshot.salaryIndex().top(n))
+                .doOnSuccess(employees -> log.debug("Found {} top earners", employees.size()));
+    }
+
     public Mono<Employee> createEmployee(CreateEmployeeInput input) {
         log.debug("Creating new employee: {}", input);
         return webClient
@@ -95,9 +325,11 @@ public class EmployeeService {
                 .bodyValue(input)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<MockApiResponse<Employee>>() {})
+                .transformDeferred(call -> upstreamScheduler.schedule(Priority.CRITICAL, call))
                 .transformDeferred(RetryOperator.of(retry))
-                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
                 .map(MockApiResponse::getData)
+                .doOnNext(rosterCache::applyCreated)
                 .doOnSuccess(employee -> log.info("Successfully created employee: {}", employee))
                 .doOnError(error -> log.error("Error creating employee", error))
                 .onErrorMap(this::mapException);
@@ -115,8 +347,14 @@ public class EmployeeService {
                             .uri("/{name}", employee.getName())
                             .retrieve()
                             .bodyToMono(new ParameterizedTypeReference<MockApiResponse<Boolean>>() {})
+                            .transformDeferred(call -> upstreamScheduler.schedule(Priority.CRITICAL, call))
                             .transformDeferred(RetryOperator.of(retry))
-                            .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                            .doOnNext(response -> {
+                                if (Boolean.TRUE.equals(response.getData())) {
+                                    rosterCache.applyDeletedByName(employee.getName());
+                                }
+                            })
                             .map(response -> employee.getName());
                 })
                 .doOnSuccess(name -> log.info("Successfully deleted employee: {}", name))
@@ -125,6 +363,12 @@ public class EmployeeService {
     }
 
     private Throwable mapException(Throwable throwable) {
+        if (throwable instanceof ExternalApiException) {
+            return throwable;
+        }
+        if (throwable instanceof CallNotPermittedException) {
+            return new UpstreamUnavailableException("Upstream circuit is open", throwable);
+        }
         if (throwable instanceof WebClientResponseException webClientException) {
             if (webClientException.getStatusCode() == HttpStatus.NOT_FOUND) {
                 return new EmployeeNotFoundException("Employee not found");
@@ -134,4 +378,7 @@ public class EmployeeService {
         }
         return new ExternalApiException("Unexpected error occurred", throwable);
     }
+
+    /** The last roster fetched in full together with the ETag upstream sent for it. */
+    private record ValidatedRoster(String etag, List<Employee> employees) {}
 }
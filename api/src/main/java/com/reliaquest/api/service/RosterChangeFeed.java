@@ -0,0 +1,196 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.model.ChangeFeedSync;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps the cached roster current from the upstream change feed, one long-lived server-sent event stream, instead of
+ * refetching it whenever the cache TTL runs out.
+ *
+ * <p>Creates and deletes are applied to the roster cache as they arrive; both are idempotent, so a change already
+ * contained in a roster fetched meanwhile is not applied twice. A reconnect resumes after the last event seen. When
+ * upstream cannot resume it, the roster is refetched by a fetch that starts after the sync event, so no change
+ * between an earlier read and the sync point can be missing from it. Once the cache is known to hold every upstream
+ * change, each further event or heartbeat confirms the cached snapshot as current, so it never goes stale while the
+ * feed is up. Losing the connection falls back to TTL refreshes until the feed is back in sync.
+ *
+ * <p>Each connect goes through the upstream scheduler as a bulk call, so it counts against the learned upstream limit
+ * like any other request. A throttled or dropped connect is retried with backoff like any other failure.
+ */
+@Slf4j
+public class RosterChangeFeed implements SmartLifecycle {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENTS =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final EmployeeService employeeService;
+    private final RosterCache rosterCache;
+    private final UpstreamScheduler upstreamScheduler;
+    private final Duration idleTimeout;
+    private final Duration reconnectBackoff;
+    private final Duration maxReconnectBackoff;
+
+    private final AtomicReference<String> lastEventId = new AtomicReference<>();
+    private final AtomicLong connections = new AtomicLong();
+    private volatile boolean synced;
+    private volatile Disposable subscription;
+
+    public RosterChangeFeed(
+            WebClient webClient,
+            ObjectMapper objectMapper,
+            EmployeeService employeeService,
+            RosterCache rosterCache,
+            UpstreamScheduler upstreamScheduler,
+            Duration idleTimeout,
+            Duration reconnectBackoff,
+            Duration maxReconnectBackoff) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.employeeService = employeeService;
+        this.rosterCache = rosterCache;
+        this.upstreamScheduler = upstreamScheduler;
+        this.idleTimeout = idleTimeout;
+        this.reconnectBackoff = reconnectBackoff;
+        this.maxReconnectBackoff = maxReconnectBackoff;
+    }
+
+    @Override
+    public void start() {
+        subscription = Flux.defer(this::connect)
+                .doOnNext(this::handle)
+                .doFinally(signal -> disconnected())
+                .doOnError(error -> log.warn("Change feed disconnected: {}", error.toString()))
+                // transient: the backoff starts over once a connection has delivered events again
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, reconnectBackoff)
+                        .maxBackoff(maxReconnectBackoff)
+                        .transientErrors(true))
+                .repeatWhen(completions -> completions.delayElements(reconnectBackoff))
+                .subscribe();
+        log.info("Following upstream change feed");
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+
+    /** Whether the cached roster is known to hold every upstream change so far. */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    private Flux<ServerSentEvent<String>> connect() {
+        String resumeAfter = lastEventId.get();
+        log.debug("Connecting to change feed{}", resumeAfter == null ? "" : " after event " + resumeAfter);
+        Flux<ServerSentEvent<String>> events = webClient
+                .get()
+                .uri("/changes")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (resumeAfter != null) {
+                        headers.set("Last-Event-ID", resumeAfter);
+                    }
+                })
+                // the shared read timeout is shorter than the heartbeat; an idle feed only fails past idleTimeout
+                .httpRequest(request -> request.<HttpClientRequest>getNativeRequest().responseTimeout(idleTimeout))
+                .retrieve()
+                .bodyToFlux(EVENTS);
+        return upstreamScheduler.scheduleMany(Priority.BULK, events);
+    }
+
+    private void disconnected() {
+        connections.incrementAndGet();
+        synced = false;
+    }
+
+    void handle(ServerSentEvent<String> event) {
+        switch (Objects.requireNonNullElse(event.event(), "")) {
+            case "sync" -> {
+                ChangeFeedSync sync = read(event, ChangeFeedSync.class);
+                remember(event);
+                if (sync.isResumed()) {
+                    synced = true;
+                    log.debug("Change feed resumed after sequence {}", sync.getSequence());
+                } else {
+                    resync(sync.getSequence());
+                }
+            }
+            case "created" -> {
+                EmployeeChange change = read(event, EmployeeChange.class);
+                rosterCache.applyCreated(change.getEmployee());
+                remember(event);
+                confirm();
+            }
+            case "deleted" -> {
+                EmployeeChange change = read(event, EmployeeChange.class);
+                rosterCache.applyDeleted(change.getEmployee().getId());
+                remember(event);
+                confirm();
+            }
+            case "heartbeat" -> confirm();
+            default -> log.debug("Ignoring change feed event {}", event.event());
+        }
+    }
+
+    /** Only a refetch that finishes on the same connection marks the feed synced; a later drop has reset it. */
+    private void resync(long sequence) {
+        synced = false;
+        long connection = connections.get();
+        log.info("Change feed cannot resume, refetching roster at sequence {}", sequence);
+        employeeService
+                .refreshRoster()
+                .subscribe(
+                        snapshot -> synced = connection == connections.get(),
+                        error -> log.warn("Roster refetch after change feed resync failed", error));
+    }
+
+    private void confirm() {
+        if (synced) {
+            rosterCache.confirmCurrent();
+        }
+    }
+
+    private void remember(ServerSentEvent<String> event) {
+        if (event.id() != null) {
+            lastEventId.set(event.id());
+        }
+    }
+
+    private <T> T read(ServerSentEvent<String> event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.data(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed change feed event " + event.event(), e);
+        }
+    }
+}
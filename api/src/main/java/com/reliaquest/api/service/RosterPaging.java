@@ -0,0 +1,18 @@
+package com.reliaquest.api.service;
+
+/**
+ * How the roster is read from upstream. When enabled, it is fetched as cursor pages of {@code pageSize}, up to
+ * {@code concurrency} at a time, each page scheduled as its own bulk call so the fetch stays within the rate budget.
+ */
+public record RosterPaging(boolean enabled, int pageSize, int concurrency) {
+
+    public RosterPaging {
+        if (enabled && (pageSize < 1 || concurrency < 1)) {
+            throw new IllegalArgumentException("Page size and concurrency must be positive");
+        }
+    }
+
+    public static RosterPaging disabled() {
+        return new RosterPaging(false, 0, 0);
+    }
+}
@@ -0,0 +1,322 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.index.SearchMode;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class RosterCacheTest {
+
+    private static final LookupPolicy POLICY = new LookupPolicy(Duration.ofSeconds(60), Duration.ofSeconds(10));
+
+    private MutableClock clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_shouldServeFreshSnapshotFromMemory() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+
+        // When & Then
+        StepVerifier.create(cache.get(() -> load(roster)))
+                .expectNextMatches(snapshot -> snapshot.version() == 1 && snapshot.employees().equals(roster))
+                .verifyComplete();
+        StepVerifier.create(cache.get(() -> load(roster)))
+                .expectNextMatches(snapshot -> snapshot.version() == 1)
+                .verifyComplete();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldServeStaleSnapshotWhileRefreshingOnce() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> initial = List.of(createEmployee("John Doe"));
+        List<Employee> refreshed = List.of(createEmployee("John Doe"), createEmployee("Jane Smith"));
+        cache.get(() -> load(initial)).block();
+        clock.advance(Duration.ofSeconds(31));
+        Sinks.One<List<Employee>> pending = Sinks.one();
+
+        // When - two readers hit the stale snapshot while the refresh is in flight
+        RosterSnapshot first = cache.get(() -> pendingLoad(pending)).block();
+        RosterSnapshot second = cache.get(() -> pendingLoad(pending)).block();
+
+        // Then
+        assertEquals(1, first.version());
+        assertEquals(1, second.version());
+        assertEquals(2, loads.get());
+
+        pending.tryEmitValue(refreshed);
+        RosterSnapshot current = cache.current().orElseThrow();
+        assertEquals(2, current.version());
+        assertEquals(refreshed, current.employees());
+    }
+
+    @Test
+    void get_shouldKeepStaleSnapshotWhenRefreshFails() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+        cache.get(() -> load(roster)).block();
+        clock.advance(Duration.ofMinutes(5));
+
+        // When & Then
+        StepVerifier.create(cache.get(() -> Mono.error(new IllegalStateException("upstream down"))))
+                .expectNextMatches(snapshot -> snapshot.version() == 1 && snapshot.employees().equals(roster))
+                .verifyComplete();
+        assertEquals(1, cache.current().orElseThrow().version());
+    }
+
+    @Test
+    void get_shouldRenewSnapshotWithoutRebuilding_whenLoaderReturnsSameRoster() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+        RosterSnapshot installed = cache.get(() -> load(roster)).block();
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        cache.get(() -> load(roster)).block();
+
+        // Then
+        RosterSnapshot renewed = cache.current().orElseThrow();
+        assertEquals(installed.version(), renewed.version());
+        assertSame(installed.nameIndex(), renewed.nameIndex());
+        assertFalse(cache.isStale(renewed));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_shouldPropagateErrorWhenCacheIsCold() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+
+        // When & Then
+        StepVerifier.create(cache.get(() -> Mono.error(new IllegalStateException("upstream down"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertTrue(cache.current().isEmpty());
+    }
+
+    @Test
+    void get_shouldAlwaysLoadWhenDisabled() {
+        // Given
+        RosterCache cache = new RosterCache(false, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+
+        // When
+        cache.get(() -> load(roster)).block();
+        cache.get(() -> load(roster)).block();
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void lookup_shouldApplyFreshnessPolicyToHitsAndMisses() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        Employee employee = createEmployee("John Doe");
+        String unknownId = UUID.randomUUID().toString();
+        assertEquals(IdLookup.Outcome.UPSTREAM, cache.lookup(employee.getId().toString()).outcome());
+        cache.get(() -> load(List.of(employee))).block();
+
+        // When & Then - young snapshot answers hits and misses locally
+        assertEquals(IdLookup.hit(employee), cache.lookup(employee.getId().toString()));
+        assertEquals(IdLookup.Outcome.MISS, cache.lookup(unknownId).outcome());
+
+        // When & Then - misses are no longer trusted, hits still are
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals(IdLookup.Outcome.HIT, cache.lookup(employee.getId().toString()).outcome());
+        assertEquals(IdLookup.Outcome.UPSTREAM, cache.lookup(unknownId).outcome());
+
+        // When & Then - snapshot too old to answer at all
+        clock.advance(Duration.ofSeconds(60));
+        assertEquals(IdLookup.Outcome.UPSTREAM, cache.lookup(employee.getId().toString()).outcome());
+    }
+
+    @Test
+    void lookup_shouldGoUpstreamForMalformedIds() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        cache.get(() -> load(List.of(createEmployee("John Doe")))).block();
+
+        // When & Then
+        assertEquals(IdLookup.Outcome.UPSTREAM, cache.lookup("invalid-uuid-format").outcome());
+    }
+
+    @Test
+    void stats_shouldCountHowEachReadWasAnswered() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        Employee employee = createEmployee("John Doe");
+        cache.lookup(employee.getId().toString());
+        cache.get(() -> load(List.of(employee))).block();
+        cache.get(() -> load(List.of(employee))).block();
+        cache.lookup(employee.getId().toString());
+        cache.lookup(UUID.randomUUID().toString());
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        cache.get(() -> load(List.of(employee))).block();
+
+        // Then
+        assertEquals(new RosterCacheStats(1, 1, 1, 1, 1, 1), cache.stats());
+    }
+
+    @Test
+    void applyCreated_shouldUpdateEveryDerivedStructureAsNewVersion() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        RosterSnapshot before = cache.get(() -> load(List.of(createEmployee("John Doe")))).block();
+        Employee created = createEmployee("Jane Smith");
+
+        // When
+        cache.applyCreated(created);
+
+        // Then
+        RosterSnapshot after = cache.current().orElseThrow();
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(2, after.employees().size());
+        assertSame(created, after.employeesById().get(created.getId()));
+        assertEquals(List.of(created), after.nameIndex().search("jane", SearchMode.CONTAINS));
+        assertEquals(2, after.salaryIndex().size());
+        assertEquals(1, before.employees().size());
+    }
+
+    @Test
+    void applyDeletedByName_shouldRemoveFirstCaseInsensitiveMatchOnly() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        Employee first = createEmployee("John Doe");
+        Employee second = createEmployee("John Doe");
+        cache.get(() -> load(List.of(first, second))).block();
+
+        // When
+        cache.applyDeletedByName("JOHN DOE");
+
+        // Then
+        RosterSnapshot after = cache.current().orElseThrow();
+        assertEquals(List.of(second), after.employees());
+        assertNull(after.employeesById().get(first.getId()));
+        assertEquals(List.of(second), after.nameIndex().search("john", SearchMode.CONTAINS));
+    }
+
+    @Test
+    void applyCreated_shouldSurviveRefreshThatWasInFlight() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        Employee existing = createEmployee("John Doe");
+        cache.get(() -> load(List.of(existing))).block();
+        clock.advance(Duration.ofSeconds(31));
+        Sinks.One<List<Employee>> pending = Sinks.one();
+        cache.get(() -> pendingLoad(pending)).block();
+
+        // When - a create lands while the refresh is in flight, and the refresh returns a roster without it
+        Employee created = createEmployee("Jane Smith");
+        cache.applyCreated(created);
+        pending.tryEmitValue(List.of(existing));
+
+        // Then
+        RosterSnapshot after = cache.current().orElseThrow();
+        assertEquals(List.of(existing, created), after.employees());
+        assertSame(created, after.employeesById().get(created.getId()));
+    }
+
+    @Test
+    void refresh_shouldFetchAgain_whenLoadWasAlreadyInFlight() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> early = List.of(createEmployee("John Doe"));
+        List<Employee> late = List.of(createEmployee("John Doe"), createEmployee("Jane Smith"));
+        Sinks.One<List<Employee>> pending = Sinks.one();
+        cache.get(() -> pendingLoad(pending)).subscribe();
+
+        // When - a refresh asked for while that load is in flight
+        Mono<RosterSnapshot> refreshed = cache.refresh(() -> load(late));
+        StepVerifier.create(refreshed)
+                .then(() -> pending.tryEmitValue(early))
+                .expectNextMatches(snapshot -> snapshot.employees().equals(late))
+                .verifyComplete();
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(late, cache.current().orElseThrow().employees());
+    }
+
+    @Test
+    void refresh_shouldReplayChangesAppliedDuringItsOwnFetch_whenItWaitedForAnotherLoad() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+        Employee created = createEmployee("Jane Smith");
+        Sinks.One<List<Employee>> first = Sinks.one();
+        Sinks.One<List<Employee>> second = Sinks.one();
+        cache.get(() -> pendingLoad(first)).subscribe();
+        cache.refresh(() -> pendingLoad(second)).subscribe();
+        first.tryEmitValue(roster);
+
+        // When - a local create lands while the refresh's own fetch is in flight
+        cache.applyCreated(created);
+        second.tryEmitValue(List.of(roster.get(0)));
+
+        // Then
+        assertEquals(2, loads.get());
+        assertTrue(cache.current().orElseThrow().employees().contains(created));
+    }
+
+    @Test
+    void refresh_shouldFetchOnce_whenNoLoadIsInFlight() {
+        // Given
+        RosterCache cache = new RosterCache(true, Duration.ofSeconds(30), POLICY, clock);
+        List<Employee> roster = List.of(createEmployee("John Doe"));
+        cache.get(() -> load(roster)).block();
+
+        // When & Then
+        StepVerifier.create(cache.refresh(() -> load(List.of(createEmployee("Jane Smith")))))
+                .expectNextMatches(snapshot -> snapshot.version() == 2)
+                .verifyComplete();
+        assertEquals(2, loads.get());
+    }
+
+    private Mono<List<Employee>> load(List<Employee> roster) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return roster;
+        });
+    }
+
+    private Mono<List<Employee>> pendingLoad(Sinks.One<List<Employee>> pending) {
+        loads.incrementAndGet();
+        return pending.asMono();
+    }
+
+    private Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+}
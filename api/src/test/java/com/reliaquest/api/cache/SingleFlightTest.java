@@ -0,0 +1,138 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void execute_shouldShareOneCallBetweenConcurrentCallers() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            singleFlight.execute("key", () -> call(upstream)).subscribe(results::add);
+        }
+        upstream.tryEmitValue("value");
+
+        // Then
+        assertEquals(List.of("value", "value", "value"), results);
+        assertEquals(1, calls.get());
+        assertFalse(singleFlight.isInFlight("key"));
+    }
+
+    @Test
+    void execute_shouldShareErrorBetweenConcurrentCallers() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+        // When
+        singleFlight.execute("key", () -> call(upstream)).subscribe(value -> {}, errors::add);
+        singleFlight.execute("key", () -> call(upstream)).subscribe(value -> {}, errors::add);
+        upstream.tryEmitError(new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(2, errors.size());
+        assertTrue(errors.stream().allMatch(IllegalStateException.class::isInstance));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_shouldStartNewCallAfterPreviousCompleted() {
+        // When
+        singleFlight.execute("key", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet())).block();
+        String second = singleFlight.execute("key", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet()))
+                .block();
+
+        // Then
+        assertEquals("v2", second);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_shouldReuseResult_whenCallerArrivesAsCallCompletes() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+        singleFlight
+                .execute("key", () -> call(upstream))
+                .subscribe(value -> singleFlight
+                        .execute("key", () -> call(upstream))
+                        .subscribe(results::add));
+
+        // When
+        upstream.tryEmitValue("value");
+
+        // Then
+        assertEquals(List.of("value"), results);
+        assertEquals(1, calls.get());
+        assertFalse(singleFlight.isInFlight("key"));
+    }
+
+    @Test
+    void executeAfter_shouldStartNewCall_whenCallIsAlreadyInFlight() {
+        // Given
+        Sinks.One<String> earlier = Sinks.one();
+        Sinks.One<String> later = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+        singleFlight.execute("key", () -> call(earlier)).subscribe();
+
+        // When
+        singleFlight.executeAfter("key", () -> call(later)).subscribe(results::add);
+        earlier.tryEmitValue("early");
+        singleFlight.execute("key", () -> call(later)).subscribe(results::add);
+        later.tryEmitValue("late");
+
+        // Then
+        assertEquals(List.of("late", "late"), results);
+        assertEquals(2, calls.get());
+        assertFalse(singleFlight.isInFlight("key"));
+    }
+
+    @Test
+    void executeAfter_shouldStartNewCall_whenEarlierCallFails() {
+        // Given
+        Sinks.One<String> earlier = Sinks.one();
+        List<String> results = new CopyOnWriteArrayList<>();
+        singleFlight.execute("key", () -> call(earlier)).subscribe(value -> {}, error -> {});
+
+        // When
+        singleFlight
+                .executeAfter("key", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet()))
+                .subscribe(results::add);
+        earlier.tryEmitError(new IllegalStateException("boom"));
+
+        // Then
+        assertEquals(List.of("v2"), results);
+    }
+
+    @Test
+    void execute_shouldNotShareBetweenDifferentKeys() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+
+        // When
+        singleFlight.execute("a", () -> call(upstream)).subscribe();
+        singleFlight.execute("b", () -> call(upstream)).subscribe();
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    private Mono<String> call(Sinks.One<String> upstream) {
+        calls.incrementAndGet();
+        return upstream.asMono();
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class DataArrayDecoderTest {
+
+    private final DataArrayDecoder decoder = new DataArrayDecoder(new ObjectMapper());
+
+    @Test
+    void decode_shouldEmitEachElementOfDataArray() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String json = "{\"data\":[" + employeeJson(first, "John Doe", 50000) + ","
+                + employeeJson(second, "Jane Smith", 60000) + "],\"status\":\"Successfully processed request.\"}";
+
+        // When & Then
+        StepVerifier.create(decoder.decode(buffers(json, json.length()), Employee.class))
+                .assertNext(employee -> {
+                    assertEquals(first, employee.getId());
+                    assertEquals("John Doe", employee.getName());
+                    assertEquals(50000, employee.getSalary());
+                })
+                .assertNext(employee -> assertEquals("Jane Smith", employee.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_shouldProduceSameElements_forEveryChunkBoundary() {
+        // Given
+        String json = "{\"status\":\"ok\",\"data\":[" + employeeJson(UUID.randomUUID(), "John \\\"JD\\\" Doe", 50000)
+                + ",null," + employeeJson(UUID.randomUUID(), "José", 60000) + "]}";
+
+        for (int chunkSize = 1; chunkSize <= 16; chunkSize++) {
+            // When
+            List<Employee> employees =
+                    decoder.decode(buffers(json, chunkSize), Employee.class).collectList().block();
+
+            // Then
+            assertNotNull(employees);
+            assertEquals(List.of("John \"JD\" Doe", "José"), employees.stream().map(Employee::getName).toList());
+        }
+    }
+
+    @Test
+    void decode_shouldIgnoreNestedDataFields() {
+        // Given
+        String json = "{\"meta\":{\"data\":[{\"employee_name\":\"Nested\"}]},\"data\":[{\"employee_name\":\"Top\"}]}";
+
+        // When & Then
+        StepVerifier.create(decoder.decode(buffers(json, 5), Employee.class).map(Employee::getName))
+                .expectNext("Top")
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_shouldCompleteEmpty_whenDataIsMissingOrEmpty() {
+        // When & Then
+        StepVerifier.create(decoder.decode(buffers("{\"data\":[]}", 3), Employee.class))
+                .verifyComplete();
+        StepVerifier.create(decoder.decode(buffers("{\"status\":\"ok\"}", 3), Employee.class))
+                .verifyComplete();
+    }
+
+    @Test
+    void decode_shouldEmitCompleteElementsThenFail_whenInputIsTruncated() {
+        // Given
+        String json = "{\"data\":[{\"employee_name\":\"John Doe\"},{\"employee_name\":\"Jane";
+
+        // When & Then
+        StepVerifier.create(decoder.decode(buffers(json, 8), Employee.class).map(Employee::getName))
+                .expectNext("John Doe")
+                .verifyError(DecodingException.class);
+    }
+
+    private static String employeeJson(UUID id, String name, int salary) {
+        return "{\"id\":\"" + id + "\",\"employee_name\":\"" + name + "\",\"employee_salary\":" + salary
+                + ",\"employee_age\":30,\"employee_title\":\"Developer\",\"employee_email\":\"dev@company.com\"}";
+    }
+
+    private static Flux<DataBuffer> buffers(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + chunkSize)));
+        }
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+}
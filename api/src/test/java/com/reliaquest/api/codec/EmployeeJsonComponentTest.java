@@ -0,0 +1,83 @@
+package com.reliaquest.api.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.MockApiResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeJsonComponentTest {
+
+    private final ObjectMapper beanMapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ObjectMapper codecMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(new SimpleModule()
+                    .addSerializer(new EmployeeJsonComponent.Serializer())
+                    .addDeserializer(Employee.class, new EmployeeJsonComponent.Deserializer()));
+
+    @Test
+    void serialize_shouldMatchBeanMapping() throws Exception {
+        // Given
+        List<Employee> employees = employees(100);
+
+        // When & Then
+        assertEquals(beanMapper.writeValueAsString(employees), codecMapper.writeValueAsString(employees));
+    }
+
+    @Test
+    void deserialize_shouldRoundTripRosterEnvelope() throws Exception {
+        // Given
+        MockApiResponse<List<Employee>> response = new MockApiResponse<>(employees(100), "Success", null);
+        String json = beanMapper.writeValueAsString(response);
+
+        // When
+        MockApiResponse<List<Employee>> decoded =
+                codecMapper.readValue(json, new TypeReference<MockApiResponse<List<Employee>>>() {});
+
+        // Then
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void deserialize_shouldSkipUnknownFieldsAndCoerceScalars() throws Exception {
+        // Given
+        String json = "{\"employee_salary\":\"120000\",\"extra\":{\"nested\":[1,2]},\"employee_age\":null,"
+                + "\"employee_name\":\"John Doe\",\"id\":null}";
+
+        // When
+        Employee employee = codecMapper.readValue(json, Employee.class);
+
+        // Then
+        assertEquals(120000, employee.getSalary());
+        assertNull(employee.getAge());
+        assertEquals("John Doe", employee.getName());
+        assertNull(employee.getId());
+    }
+
+    @Test
+    void deserialize_shouldRejectMalformedId() {
+        assertThrows(InvalidFormatException.class, () -> codecMapper.readValue("{\"id\":\"nope\"}", Employee.class));
+    }
+
+    private List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Employee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee \"" + i + "\" José")
+                        .salary(i % 7 == 0 ? null : 50000 + i)
+                        .age(30)
+                        .title("Developer")
+                        .email("employee" + i + "@company.com")
+                        .build())
+                .toList();
+    }
+}
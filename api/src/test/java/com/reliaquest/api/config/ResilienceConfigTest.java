@@ -0,0 +1,66 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ResilienceConfigTest {
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceConfig config = new ResilienceConfig();
+        ReflectionTestUtils.setField(config, "failureRateThreshold", 50f);
+        ReflectionTestUtils.setField(config, "slidingWindowSize", 4);
+        ReflectionTestUtils.setField(config, "minimumNumberOfCalls", 4);
+        ReflectionTestUtils.setField(config, "waitDurationInOpenState", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(config, "permittedCallsInHalfOpenState", 1);
+        circuitBreaker = config.circuitBreaker();
+    }
+
+    @Test
+    void circuitBreaker_shouldStayClosed_whenSchedulerDropsRequests() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(call(new UpstreamThrottledException("Upstream request queue is full")))
+                    .expectError(UpstreamThrottledException.class)
+                    .verify();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+    }
+
+    @Test
+    void circuitBreaker_shouldOpen_whenUpstreamKeepsFailing() {
+        // Given
+        WebClientResponseException unavailable = WebClientResponseException.create(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(call(unavailable))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private Mono<Void> call(Throwable failure) {
+        return Mono.<Void>error(failure).transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+}
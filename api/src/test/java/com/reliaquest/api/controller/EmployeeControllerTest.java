@@ -1,15 +1,19 @@
 package com.reliaquest.api.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.Staleness;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.index.SearchMode;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -17,8 +21,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @WebMvcTest(EmployeeController.class)
@@ -45,6 +52,23 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_name").value("Jane Smith"));
     }
 
+    @Test
+    void streamAllEmployees_shouldWriteOneJsonDocumentPerLine() throws Exception {
+        when(employeeService.streamAllEmployees())
+                .thenReturn(Flux.just(createEmployee("John Doe"), createEmployee("Jane Smith")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/stream").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        result.getAsyncResult();
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readValue(lines[0], Employee.class).getName());
+        assertEquals("Jane Smith", objectMapper.readValue(lines[1], Employee.class).getName());
+    }
+
     @Test
     void getEmployeeById_shouldReturnEmployee() throws Exception {
         String id = UUID.randomUUID().toString();
@@ -79,6 +103,26 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].employee_name").value("John Smith"));
     }
 
+    @Test
+    void searchEmployees_shouldPassModeAndMaxEditsToService() throws Exception {
+        List<Employee> employees = Arrays.asList(createEmployee("John Smith"));
+
+        when(employeeService.searchEmployeesByName("smyth", SearchMode.FUZZY, 1)).thenReturn(Mono.just(employees));
+
+        mockMvc.perform(get("/api/v1/employee/search")
+                        .param("name", "smyth")
+                        .param("mode", "FUZZY")
+                        .param("maxEdits", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Smith"));
+    }
+
+    @Test
+    void searchEmployees_shouldReturnBadRequest_whenModeIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search").param("name", "john").param("mode", "SOUNDEX"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getHighestSalary_shouldReturnHighestSalary() throws Exception {
         when(employeeService.getHighestSalary()).thenReturn(Mono.just(100000));
@@ -88,6 +132,29 @@ class EmployeeControllerTest {
                 .andExpect(content().string("100000"));
     }
 
+    @Test
+    void getHighestSalary_shouldAddStalenessHeaders_whenServedFromOutdatedSnapshot() throws Exception {
+        when(employeeService.getHighestSalary()).thenReturn(Mono.deferContextual(context -> {
+            Staleness.record(context, Duration.ofSeconds(42));
+            return Mono.just(100000);
+        }));
+
+        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.AGE, "42"))
+                .andExpect(header().string(HttpHeaders.WARNING, "110 - \"Response is Stale\""));
+    }
+
+    @Test
+    void getHighestSalary_shouldOmitStalenessHeaders_whenSnapshotIsFresh() throws Exception {
+        when(employeeService.getHighestSalary()).thenReturn(Mono.just(100000));
+
+        mockMvc.perform(get("/api/v1/employee/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.AGE))
+                .andExpect(header().doesNotExist(HttpHeaders.WARNING));
+    }
+
     @Test
     void getTopTenHighestEarningEmployeeNames_shouldReturnNamesList() throws Exception {
         List<String> names = Arrays.asList("Employee 1", "Employee 2", "Employee 3");
@@ -101,6 +168,18 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[2]").value("Employee 3"));
     }
 
+    @Test
+    void getTopEarners_shouldReturnRequestedNumberOfEmployees() throws Exception {
+        List<Employee> employees = Arrays.asList(createEmployee("John Doe"), createEmployee("Jane Smith"));
+
+        when(employeeService.getTopEarners(2)).thenReturn(Mono.just(employees));
+
+        mockMvc.perform(get("/api/v1/employee/topEarners").param("n", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("John Doe"))
+                .andExpect(jsonPath("$[1].employee_name").value("Jane Smith"));
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee() throws Exception {
         CreateEmployeeInput input = CreateEmployeeInput.builder()
@@ -0,0 +1,285 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.index.SearchMode;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRouterTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        EmployeeHandler handler = new EmployeeHandler(
+                employeeService, Validation.buildDefaultValidatorFactory().getValidator());
+        webTestClient = WebTestClient.bindToRouterFunction(new EmployeeRouter().employeeRoutes(handler))
+                .build();
+    }
+
+    @Test
+    void getAllEmployees_shouldReturnListOfEmployees() {
+        // Given
+        List<Employee> employees = Arrays.asList(createEmployee("John Doe"), createEmployee("Jane Smith"));
+        when(employeeService.getAllEmployees()).thenReturn(Mono.just(employees));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[0].employee_name")
+                .isEqualTo("John Doe")
+                .jsonPath("$[1].employee_name")
+                .isEqualTo("Jane Smith");
+    }
+
+    @Test
+    void streamAllEmployees_shouldStreamNdjson() {
+        // Given
+        when(employeeService.streamAllEmployees())
+                .thenReturn(Flux.just(createEmployee("John Doe"), createEmployee("Jane Smith")));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Employee.class)
+                .getResponseBody()
+                .map(Employee::getName)
+                .as(StepVerifier::create)
+                .expectNext("John Doe", "Jane Smith")
+                .verifyComplete();
+    }
+
+    @Test
+    void getEmployeeById_shouldReturn404_whenNotFound() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        when(employeeService.getEmployeeById(id))
+                .thenReturn(Mono.error(new EmployeeNotFoundException("Employee not found")));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/{id}", id)
+                .exchange()
+                .expectStatus()
+                .isNotFound()
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Employee not found");
+    }
+
+    @Test
+    void getHighestSalary_shouldReturn503_whenUpstreamFails() {
+        // Given
+        when(employeeService.getHighestSalary()).thenReturn(Mono.error(new ExternalApiException("boom")));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/highestSalary")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Service temporarily unavailable");
+    }
+
+    @Test
+    void searchEmployees_shouldPassModeAndMaxEditsToService() {
+        // Given
+        List<Employee> employees = Arrays.asList(createEmployee("John Smith"));
+        when(employeeService.searchEmployeesByName("smyth", SearchMode.FUZZY, 1)).thenReturn(Mono.just(employees));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/search?name=smyth&mode=FUZZY&maxEdits=1")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[0].employee_name")
+                .isEqualTo("John Smith");
+    }
+
+    @Test
+    void searchEmployees_shouldReturnBadRequest_whenModeIsUnknown() {
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/search?name=john&mode=SOUNDEX")
+                .exchange()
+                .expectStatus()
+                .isBadRequest();
+    }
+
+    @Test
+    void getTopEarners_shouldDefaultToTen() {
+        // Given
+        when(employeeService.getTopEarners(10)).thenReturn(Mono.just(List.of(createEmployee("John Doe"))));
+
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/topEarners")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[0].employee_name")
+                .isEqualTo("John Doe");
+    }
+
+    @Test
+    void createEmployee_shouldReturnCreatedEmployee() {
+        // Given
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("New Employee")
+                .salary(70000)
+                .age(30)
+                .title("Developer")
+                .build();
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class)))
+                .thenReturn(Mono.just(createEmployee("New Employee")));
+
+        // When & Then
+        webTestClient
+                .post()
+                .uri("/api/v2/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(input)
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectBody()
+                .jsonPath("$.employee_name")
+                .isEqualTo("New Employee");
+    }
+
+    @Test
+    void createEmployee_shouldReturnBadRequest_whenValidationFails() {
+        // Given
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("")
+                .salary(-1000)
+                .age(10)
+                .title("")
+                .build();
+
+        // When & Then
+        webTestClient
+                .post()
+                .uri("/api/v2/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(input)
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo("Validation failed")
+                .jsonPath("$.errors.name")
+                .exists();
+        verify(employeeService, never()).createEmployee(any());
+    }
+
+    @Test
+    void deleteEmployeeById_shouldReturnEmployeeName() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        when(employeeService.deleteEmployeeById(id)).thenReturn(Mono.just("John Doe"));
+
+        // When & Then
+        webTestClient
+                .delete()
+                .uri("/api/v2/employee/{id}", id)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .isEqualTo("John Doe");
+    }
+
+    @Test
+    void getAllEmployees_shouldReturn404_whenSubPathIsUnknown() {
+        // When & Then
+        webTestClient
+                .get()
+                .uri("/api/v2/employee/a/b")
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void createEmployee_shouldReturn404_whenSubPathIsUnknown() {
+        // Given
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("New Employee")
+                .salary(70000)
+                .age(30)
+                .title("Developer")
+                .build();
+
+        // When & Then
+        webTestClient
+                .post()
+                .uri("/api/v2/employee/x")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(input)
+                .exchange()
+                .expectStatus()
+                .isNotFound();
+        verify(employeeService, never()).createEmployee(any());
+    }
+
+    private Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private final NameIndex index = NameIndex.of(Arrays.asList(
+            createEmployee("John Doe"),
+            createEmployee("Jane Smith"),
+            createEmployee("John Smith"),
+            createEmployee("José María García-López"),
+            createEmployee("田中太郎")));
+
+    @Test
+    void search_shouldMatchContainedFragmentCaseInsensitively() {
+        assertEquals(List.of("John Doe", "John Smith"), names(index.search("JOHN", SearchMode.CONTAINS)));
+        assertEquals(List.of("Jane Smith", "John Smith"), names(index.search("mith", SearchMode.CONTAINS)));
+        assertEquals(List.of("田中太郎"), names(index.search("中太", SearchMode.CONTAINS)));
+    }
+
+    @Test
+    void search_shouldHandleShortAndEmptyQueries() {
+        assertEquals(5, index.search("", SearchMode.CONTAINS).size());
+        assertEquals(List.of("José María García-López"), names(index.search("é", SearchMode.CONTAINS)));
+    }
+
+    @Test
+    void search_shouldReturnNothingWhenAnyTrigramIsMissing() {
+        assertTrue(index.search("'; DROP TABLE employees; --", SearchMode.CONTAINS).isEmpty());
+        assertTrue(index.search("johnx", SearchMode.CONTAINS).isEmpty());
+    }
+
+    @Test
+    void search_shouldMatchWordPrefixesInPrefixMode() {
+        assertEquals(List.of("Jane Smith", "John Smith"), names(index.search("smi", SearchMode.PREFIX)));
+        assertEquals(List.of("José María García-López"), names(index.search("lóp", SearchMode.PREFIX)));
+        assertTrue(index.search("mith", SearchMode.PREFIX).isEmpty());
+    }
+
+    @Test
+    void search_shouldTolerateTyposInFuzzyMode() {
+        assertEquals(List.of("Jane Smith", "John Smith"), names(index.search("smyth", SearchMode.FUZZY, 1)));
+        assertEquals(List.of("John Doe", "John Smith"), names(index.search("jonh", SearchMode.FUZZY, 1)));
+        assertTrue(index.search("smyth", SearchMode.FUZZY, 0).isEmpty());
+    }
+
+    @Test
+    void withAdded_shouldMakeEmployeeSearchableWithoutChangingOriginal() {
+        // When
+        NameIndex patched = index.withAdded(createEmployee("Johnny Cash"));
+
+        // Then
+        assertEquals(
+                List.of("John Doe", "John Smith", "Johnny Cash"),
+                names(patched.search("john", SearchMode.CONTAINS)));
+        assertEquals(2, index.search("john", SearchMode.CONTAINS).size());
+    }
+
+    @Test
+    void withRemoved_shouldHideEmployeeAndCompactEventually() {
+        // Given
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            roster.add(createEmployee("Employee " + i));
+        }
+        NameIndex patched = NameIndex.of(roster);
+
+        // When
+        for (int i = 0; i < 60; i++) {
+            patched = patched.withRemoved(roster.get(i));
+        }
+
+        // Then
+        assertEquals(40, patched.size());
+        assertEquals(40, patched.search("employee", SearchMode.CONTAINS).size());
+        assertEquals("Employee 60", patched.search("employee", SearchMode.CONTAINS).get(0).getName());
+        assertSame(patched, patched.withRemoved(createEmployee("Missing")));
+    }
+
+    private List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.api.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    @Test
+    void of_shouldOrderBySalaryDescendingKeepingRosterOrderForTies() {
+        // Given
+        List<Employee> roster = Arrays.asList(
+                createEmployee("Low", 10000),
+                createEmployee("High", 90000),
+                createEmployee("Tie A", 50000),
+                createEmployee("Tie B", 50000));
+
+        // When
+        SalaryIndex index = SalaryIndex.of(roster);
+
+        // Then
+        assertEquals(90000, index.highestSalary());
+        assertEquals(List.of("High", "Tie A", "Tie B", "Low"), index.topNames(10));
+    }
+
+    @Test
+    void of_shouldHandleEmptyRosterAndExtremeSalaries() {
+        // Given
+        List<Employee> roster = Arrays.asList(
+                createEmployee("Max", Integer.MAX_VALUE), createEmployee("Min", Integer.MIN_VALUE));
+
+        // When
+        SalaryIndex empty = SalaryIndex.of(Collections.emptyList());
+        SalaryIndex index = SalaryIndex.of(roster);
+
+        // Then
+        assertEquals(0, empty.highestSalary());
+        assertTrue(empty.top(10).isEmpty());
+        assertEquals(List.of("Max", "Min"), index.topNames(10));
+    }
+
+    @Test
+    void of_shouldSkipEmployeesWithoutSalary() {
+        // Given
+        List<Employee> roster = Arrays.asList(createEmployee("Unknown", null), createEmployee("Known", 40000));
+
+        // When
+        SalaryIndex index = SalaryIndex.of(roster);
+
+        // Then
+        assertEquals(1, index.size());
+        assertEquals(40000, index.highestSalary());
+    }
+
+    @Test
+    void top_shouldLimitToRequestedSize() {
+        // Given
+        SalaryIndex index = SalaryIndex.of(Arrays.asList(
+                createEmployee("A", 1), createEmployee("B", 2), createEmployee("C", 3)));
+
+        // When & Then
+        assertEquals(2, index.top(2).size());
+        assertEquals("C", index.top(2).get(0).getName());
+        assertTrue(index.top(0).isEmpty());
+        assertTrue(index.top(-5).isEmpty());
+    }
+
+    @Test
+    void withAdded_shouldInsertAfterEqualSalariesWithoutChangingOriginal() {
+        // Given
+        SalaryIndex index = SalaryIndex.of(Arrays.asList(createEmployee("A", 50000), createEmployee("B", 30000)));
+
+        // When
+        SalaryIndex patched = index.withAdded(createEmployee("C", 50000));
+
+        // Then
+        assertEquals(List.of("A", "C", "B"), patched.topNames(10));
+        assertEquals(List.of("A", "B"), index.topNames(10));
+    }
+
+    @Test
+    void withRemoved_shouldRemoveMatchingEmployeeOnly() {
+        // Given
+        Employee first = createEmployee("Same Salary 1", 50000);
+        Employee second = createEmployee("Same Salary 2", 50000);
+        SalaryIndex index = SalaryIndex.of(Arrays.asList(first, second, createEmployee("Other", 10000)));
+
+        // When
+        SalaryIndex patched = index.withRemoved(second);
+
+        // Then
+        assertEquals(List.of("Same Salary 1", "Other"), patched.topNames(10));
+        assertSame(patched, patched.withRemoved(createEmployee("Missing", 50000)));
+    }
+
+    private Employee createEmployee(String name, Integer salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Developer")
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.service.EmployeeService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsIntegrationTest {
+
+    @Autowired private TestRestTemplate restTemplate;
+    @MockBean private EmployeeService employeeService;
+
+    @Test
+    void requests_shouldBeHandledOnVirtualThreads() {
+        // Given
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        when(employeeService.getHighestSalary()).thenAnswer(invocation -> {
+            handlerThread.set(Thread.currentThread());
+            return Mono.just(75000);
+        });
+
+        // When
+        ResponseEntity<Integer> response =
+                restTemplate.getForEntity("/api/v1/employee/highestSalary", Integer.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(75000, response.getBody());
+        assertTrue(handlerThread.get().isVirtual());
+    }
+}
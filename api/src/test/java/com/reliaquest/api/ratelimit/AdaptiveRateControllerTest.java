@@ -0,0 +1,160 @@
+package com.reliaquest.api.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateControllerTest {
+
+    private MutableClock clock;
+    private AdaptiveRateController controller;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        controller = new AdaptiveRateController(
+                Duration.ofSeconds(30), Duration.ofSeconds(90), Duration.ofSeconds(1), clock);
+    }
+
+    @Test
+    void tryAcquire_shouldGrantFreely_untilFirstRejection() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            AdaptiveRateController.Permit permit = controller.tryAcquire(clock.instant());
+            assertTrue(permit.granted());
+            controller.onAccepted(permit);
+        }
+
+        // When & Then
+        assertTrue(controller.learnedLimit().isEmpty());
+        assertTrue(controller.availablePermissions() > 0);
+    }
+
+    @Test
+    void onRejected_shouldLearnLimit_andHoldRequestsForCooldown() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            controller.onAccepted(controller.tryAcquire(clock.instant()));
+        }
+
+        // When
+        controller.onRejected(controller.tryAcquire(clock.instant()), null);
+
+        // Then
+        assertEquals(7, controller.learnedLimit().getAsInt());
+        assertEquals(0, controller.availablePermissions());
+        AdaptiveRateController.Permit held = controller.tryAcquire(clock.instant());
+        assertFalse(held.granted());
+        assertEquals(Duration.ofSeconds(30), held.retryIn());
+    }
+
+    @Test
+    void tryAcquire_shouldStopBeforeTrippingPenalty_onceLimitIsKnown() {
+        // Given
+        SimulatedUpstream upstream = new SimulatedUpstream(5, Duration.ofSeconds(40));
+        runFor(upstream, Duration.ofMinutes(30));
+        int rejectionsWhileLearning = upstream.rejected;
+
+        // When
+        runFor(upstream, Duration.ofHours(1));
+
+        // Then
+        assertEquals(5, controller.learnedLimit().getAsInt());
+        assertEquals(rejectionsWhileLearning, upstream.rejected);
+        assertTrue(controller.cooldown().compareTo(Duration.ofSeconds(40)) >= 0);
+        assertTrue(controller.cooldown().compareTo(Duration.ofSeconds(41)) <= 0);
+    }
+
+    @Test
+    void tryAcquire_shouldSendSingleProbe_whenPenaltyShouldHaveEnded() {
+        // Given
+        controller.onAccepted(controller.tryAcquire(clock.instant()));
+        controller.onRejected(controller.tryAcquire(clock.instant()), null);
+        clock.advance(Duration.ofSeconds(30));
+
+        // When
+        AdaptiveRateController.Permit probe = controller.tryAcquire(clock.instant());
+        AdaptiveRateController.Permit second = controller.tryAcquire(clock.instant());
+
+        // Then
+        assertTrue(probe.granted());
+        assertTrue(probe.probe());
+        assertFalse(second.granted());
+    }
+
+    @Test
+    void onRejected_shouldWaitForRetryAfter_whenUpstreamProvidesIt() {
+        // Given
+        controller.onAccepted(controller.tryAcquire(clock.instant()));
+
+        // When
+        controller.onRejected(controller.tryAcquire(clock.instant()), Duration.ofSeconds(75));
+
+        // Then
+        assertEquals(Duration.ofSeconds(75), controller.tryAcquire(clock.instant()).retryIn());
+    }
+
+    @Test
+    void onRejected_shouldTakeCooldownFromRetryAfter() {
+        // Given
+        controller.onAccepted(controller.tryAcquire(clock.instant()));
+        clock.advance(Duration.ofSeconds(5));
+
+        // When
+        controller.onRejected(controller.tryAcquire(clock.instant()), Duration.ofSeconds(40));
+
+        // Then
+        assertEquals(Duration.ofSeconds(45), controller.cooldown());
+    }
+
+    private void runFor(SimulatedUpstream upstream, Duration duration) {
+        Instant end = clock.instant().plus(duration);
+        while (clock.instant().isBefore(end)) {
+            AdaptiveRateController.Permit permit = controller.tryAcquire(clock.instant());
+            if (!permit.granted()) {
+                clock.advance(permit.retryIn().isZero() ? Duration.ofMillis(1) : permit.retryIn());
+                continue;
+            }
+            if (upstream.handle(permit.sentAt())) {
+                controller.onAccepted(permit);
+            } else {
+                controller.onRejected(permit, null);
+            }
+            clock.advance(Duration.ofMillis(100));
+        }
+    }
+
+    /** Same accounting as the mock server's PenaltyLimiter, which its default RANDOM profile uses. */
+    private static class SimulatedUpstream {
+
+        private final int limit;
+        private final Duration backoff;
+        private int count;
+        private Instant lastRequested = Instant.EPOCH;
+        private int rejected;
+
+        SimulatedUpstream(int limit, Duration backoff) {
+            this.limit = limit;
+            this.backoff = backoff;
+        }
+
+        boolean handle(Instant now) {
+            if (count >= limit) {
+                if (now.minus(backoff).isBefore(lastRequested)) {
+                    rejected++;
+                    return false;
+                }
+                count = 0;
+                lastRequested = now;
+                return true;
+            }
+            count++;
+            lastRequested = now;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+class RetryAfterTest {
+
+    @Test
+    void of_shouldReadDeltaSeconds() {
+        // When & Then
+        assertEquals(Optional.of(Duration.ofSeconds(42)), RetryAfter.of(tooManyRequests("42")));
+    }
+
+    @Test
+    void of_shouldReadHttpDate() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.parse("2024-01-01T00:01:30Z").atOffset(ZoneOffset.UTC));
+
+        // When & Then
+        assertEquals(Optional.of(Duration.ofSeconds(90)), RetryAfter.of(tooManyRequests(date), clock));
+    }
+
+    @Test
+    void of_shouldBeEmpty_whenHeaderIsMissingOrMalformed() {
+        // When & Then
+        assertTrue(RetryAfter.of(tooManyRequests(null)).isEmpty());
+        assertTrue(RetryAfter.of(tooManyRequests("soon")).isEmpty());
+        assertTrue(RetryAfter.of(tooManyRequests("-5")).isEmpty());
+        assertTrue(RetryAfter.of(new IllegalStateException("not an HTTP error")).isEmpty());
+    }
+
+    private static WebClientResponseException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers, null, null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.reliaquest.api.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class UpstreamSchedulerTest {
+
+    @Test
+    void schedule_shouldDropCall_whenPermitCannotArriveBeforeMaxWait() {
+        // Given
+        AdaptiveRateController controller = controller(Duration.ofMinutes(1));
+        UpstreamScheduler scheduler = scheduler(controller, 0, Duration.ZERO, Duration.ofSeconds(5), 10);
+        learnLimit(scheduler, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.create(scheduler.schedule(Priority.CRITICAL, Mono.fromCallable(calls::incrementAndGet)))
+                .expectError(UpstreamThrottledException.class)
+                .verify(Duration.ofSeconds(1));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void schedule_shouldHoldCallsUntilRetryAfter_whenUpstreamSendsIt() {
+        // Given
+        AdaptiveRateController controller = controller(Duration.ofMillis(100));
+        UpstreamScheduler scheduler = scheduler(controller, 0, Duration.ZERO, Duration.ofSeconds(5), 10);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+        StepVerifier.create(scheduler.schedule(
+                        Priority.CRITICAL,
+                        Mono.error(WebClientResponseException.create(
+                                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", headers, null, null))))
+                .expectError(WebClientResponseException.TooManyRequests.class)
+                .verify();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.create(scheduler.schedule(Priority.CRITICAL, Mono.fromCallable(calls::incrementAndGet)))
+                .expectError(UpstreamThrottledException.class)
+                .verify(Duration.ofSeconds(1));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void schedule_shouldGrantCriticalBeforeBulk_whenPenaltyEnds() {
+        // Given
+        AdaptiveRateController controller = controller(Duration.ofMillis(200));
+        UpstreamScheduler scheduler = scheduler(controller, 0, Duration.ZERO, Duration.ofSeconds(5), 10);
+        learnLimit(scheduler, 1);
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        Mono<Priority> bulk = scheduler.schedule(Priority.BULK, record(order, Priority.BULK));
+        Mono<Priority> critical = scheduler.schedule(Priority.CRITICAL, record(order, Priority.CRITICAL));
+
+        // When
+        StepVerifier.create(Mono.zip(bulk, critical)).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertEquals(List.of(Priority.CRITICAL, Priority.BULK), order);
+    }
+
+    @Test
+    void schedule_shouldRejectImmediately_whenQueueIsFull() {
+        // Given
+        AdaptiveRateController controller = controller(Duration.ofSeconds(2));
+        UpstreamScheduler scheduler = scheduler(controller, 0, Duration.ZERO, Duration.ofSeconds(5), 1);
+        learnLimit(scheduler, 1);
+        Disposable queued = scheduler.schedule(Priority.BULK, Mono.just("ok")).subscribe();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        StepVerifier.create(scheduler.schedule(Priority.BULK, Mono.fromCallable(calls::incrementAndGet)))
+                .expectError(UpstreamThrottledException.class)
+                .verify(Duration.ofMillis(100));
+        assertEquals(0, calls.get());
+        assertEquals(1, scheduler.queued(Priority.BULK));
+
+        queued.dispose();
+        assertEquals(0, scheduler.queued(Priority.BULK));
+    }
+
+    @Test
+    void schedule_shouldHoldLastPermitsFromBulk_whileCriticalStillGetsThem() {
+        // Given
+        AdaptiveRateController controller = controller(Duration.ofMillis(100));
+        UpstreamScheduler scheduler = scheduler(controller, 2, Duration.ofSeconds(5), Duration.ofSeconds(10), 10);
+        learnLimit(scheduler, 3);
+        scheduler.schedule(Priority.CRITICAL, Mono.just("probe")).block(Duration.ofSeconds(1));
+        scheduler.schedule(Priority.BULK, Mono.just("first")).block(Duration.ofSeconds(1));
+        AtomicInteger bulkCalls = new AtomicInteger();
+        Disposable heldBulk = scheduler.schedule(Priority.BULK, Mono.fromCallable(bulkCalls::incrementAndGet))
+                .subscribe();
+
+        // When & Then
+        assertEquals(0, bulkCalls.get());
+        assertEquals(1, scheduler.queued(Priority.BULK));
+        StepVerifier.create(scheduler.schedule(Priority.CRITICAL, Mono.just("create")))
+                .expectNext("create")
+                .verifyComplete();
+        assertEquals(0, bulkCalls.get());
+
+        heldBulk.dispose();
+    }
+
+    private static AdaptiveRateController controller(Duration cooldown) {
+        return new AdaptiveRateController(cooldown, cooldown.multipliedBy(2), Duration.ofMillis(10), Clock.systemUTC());
+    }
+
+    private static UpstreamScheduler scheduler(
+            AdaptiveRateController controller, int bulkReserve, Duration hold, Duration maxWait, int capacity) {
+        PriorityPolicy policy = new PriorityPolicy(maxWait, capacity);
+        return new UpstreamScheduler(
+                controller,
+                Map.of(Priority.CRITICAL, policy, Priority.INTERACTIVE, policy, Priority.BULK, policy),
+                bulkReserve,
+                hold,
+                Clock.systemUTC(),
+                new SimpleMeterRegistry());
+    }
+
+    /** Lets {@code limit} calls through, then has the next one rejected so the controller learns the limit. */
+    private static void learnLimit(UpstreamScheduler scheduler, int limit) {
+        for (int i = 0; i < limit; i++) {
+            scheduler.schedule(Priority.CRITICAL, Mono.just("ok")).block(Duration.ofSeconds(1));
+        }
+        StepVerifier.create(scheduler.schedule(
+                        Priority.CRITICAL,
+                        Mono.error(WebClientResponseException.create(
+                                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null))))
+                .expectError(WebClientResponseException.TooManyRequests.class)
+                .verify();
+    }
+
+    private static Mono<Priority> record(List<Priority> order, Priority priority) {
+        return Mono.fromCallable(() -> {
+            order.add(priority);
+            return priority;
+        });
+    }
+}
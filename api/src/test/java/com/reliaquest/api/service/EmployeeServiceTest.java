@@ -4,35 +4,61 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.LookupPolicy;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.Staleness;
+import com.reliaquest.api.codec.DataArrayDecoder;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalApiException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.model.MockApiResponse;
-import io.github.resilience4j.ratelimiter.RateLimiter;
+import com.reliaquest.api.ratelimit.AdaptiveRateController;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.PriorityPolicy;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,16 +71,40 @@ class EmployeeServiceTest {
     @Mock private WebClient.RequestBodySpec requestBodySpec;
     @Mock private WebClient.ResponseSpec responseSpec;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
     private EmployeeService employeeService;
     private Retry retry;
-    private RateLimiter rateLimiter;
+    private UpstreamScheduler upstreamScheduler;
+    private CircuitBreaker circuitBreaker;
 
     @BeforeEach
     void setUp() {
         // Create real instances with test-friendly configurations
         retry = Retry.ofDefaults("test-retry");
-        rateLimiter = RateLimiter.ofDefaults("test-rate-limiter");
-        employeeService = new EmployeeService(webClient, retry, rateLimiter);
+        AdaptiveRateController rateController = new AdaptiveRateController(
+                Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(10), Clock.systemUTC());
+        PriorityPolicy policy = new PriorityPolicy(Duration.ofSeconds(1), 100);
+        upstreamScheduler = new UpstreamScheduler(
+                rateController,
+                Map.of(Priority.CRITICAL, policy, Priority.INTERACTIVE, policy, Priority.BULK, policy),
+                0,
+                Duration.ZERO,
+                Clock.systemUTC(),
+                new SimpleMeterRegistry());
+        circuitBreaker = CircuitBreaker.ofDefaults("test-circuit-breaker");
+        RosterCache rosterCache = new RosterCache(
+                true,
+                Duration.ofSeconds(30),
+                new LookupPolicy(Duration.ofSeconds(60), Duration.ZERO),
+                Clock.systemUTC());
+        employeeService = new EmployeeService(
+                webClient,
+                retry,
+                upstreamScheduler,
+                circuitBreaker,
+                rosterCache,
+                new DataArrayDecoder(objectMapper),
+                RosterPaging.disabled());
     }
 
     @Test
@@ -74,6 +124,119 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void streamAllEmployees_shouldDecodeUpstreamIncrementally_whenCacheIsCold() throws Exception {
+        // Given
+        List<Employee> employees = createLargeEmployeeList(50);
+        List<byte[]> chunks = chunks(new MockApiResponse<>(employees, "Success", null), 64);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(buffers(chunks));
+
+        // When & Then
+        StepVerifier.create(employeeService.streamAllEmployees())
+                .expectNextSequence(employees)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllEmployees_shouldRetry_whenUpstreamFailsBeforeFirstEmployee() throws Exception {
+        // Given
+        List<Employee> employees = createLargeEmployeeList(20);
+        List<byte[]> chunks = chunks(new MockApiResponse<>(employees, "Success", null), 64);
+        AtomicInteger attempts = new AtomicInteger();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.defer(() -> attempts.getAndIncrement() == 0
+                ? Flux.<DataBuffer>error(new RuntimeException("Connection refused"))
+                : buffers(chunks)));
+
+        // When & Then
+        StepVerifier.create(employeeService.streamAllEmployees())
+                .expectNextSequence(employees)
+                .verifyComplete();
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void streamAllEmployees_shouldFailWithoutRetrying_whenUpstreamFailsAfterFirstEmployee() throws Exception {
+        // Given
+        List<Employee> employees = createLargeEmployeeList(20);
+        List<byte[]> chunks = chunks(new MockApiResponse<>(employees, "Success", null), 64);
+        AtomicInteger attempts = new AtomicInteger();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.defer(() -> {
+            attempts.incrementAndGet();
+            return buffers(chunks.subList(0, chunks.size() / 2))
+                    .concatWith(Flux.error(new RuntimeException("Connection reset")));
+        }));
+
+        // When & Then
+        StepVerifier.create(employeeService.streamAllEmployees())
+                .expectNext(employees.get(0))
+                .thenConsumeWhile(employee -> true)
+                .expectError(ExternalApiException.class)
+                .verify();
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void streamAllEmployees_shouldReplaySnapshot_whenCacheIsWarm() {
+        // Given
+        List<Employee> employees = createLargeEmployeeList(5);
+        setupWebClientMock(Mono.just(new MockApiResponse<>(employees, "Success", null)));
+        employeeService.getAllEmployees().block();
+
+        // When & Then
+        StepVerifier.create(employeeService.streamAllEmployees())
+                .expectNextSequence(employees)
+                .verifyComplete();
+        verify(webClient, times(1)).get();
+        verify(responseSpec, never()).bodyToFlux(DataBuffer.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllEmployees_shouldMergePagesInOrder_whenPagingIsEnabled() {
+        // Given
+        EmployeeService service = pagedService();
+        Employee first = createEmployee("Employee 1", 50000);
+        Employee second = createEmployee("Employee 2", 55000);
+        Employee third = createEmployee("Employee 3", 60000);
+        setupPagedWebClientMock(
+                Mono.just(page(List.of(first), List.of("c2", "c3"))),
+                Mono.just(page(List.of(second), null)).delayElement(Duration.ofMillis(50)),
+                Mono.just(page(List.of(third), null)));
+
+        // When & Then
+        StepVerifier.create(service.getAllEmployees())
+                .expectNext(List.of(first, second, third))
+                .verifyComplete();
+        ArgumentCaptor<Function<UriBuilder, URI>> uris = ArgumentCaptor.forClass(Function.class);
+        verify(requestHeadersUriSpec, times(3)).uri(uris.capture());
+        assertEquals(
+                List.of("size=2", "cursor=c2", "cursor=c3"),
+                uris.getAllValues().stream()
+                        .map(uri -> uri.apply(new DefaultUriBuilderFactory().builder()).getQuery())
+                        .toList());
+    }
+
+    @Test
+    void streamAllEmployees_shouldStreamPages_whenPagingIsEnabledAndCacheIsCold() {
+        // Given
+        EmployeeService service = pagedService();
+        Employee first = createEmployee("Employee 1", 50000);
+        Employee second = createEmployee("Employee 2", 55000);
+        setupPagedWebClientMock(
+                Mono.just(page(List.of(first), List.of("c2"))), Mono.just(page(List.of(second), null)));
+
+        // When & Then
+        StepVerifier.create(service.streamAllEmployees())
+                .expectNext(first, second)
+                .verifyComplete();
+    }
+
     @Test
     void getAllEmployees_shouldHandleEmptyList() {
         // Given
@@ -117,6 +280,37 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getEmployeeById_shouldServeFromCachedRosterWithoutUpstreamCall() {
+        // Given
+        List<Employee> employees = createEmployeeList();
+        setupWebClientMock(Mono.just(new MockApiResponse<>(employees, "Success", null)));
+        employeeService.getAllEmployees().block();
+        Employee expected = employees.get(3);
+
+        // When & Then
+        StepVerifier.create(employeeService.getEmployeeById(expected.getId().toString()))
+                .expectNext(expected)
+                .verifyComplete();
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void getEmployeeById_shouldGoUpstreamWhenCachedRosterMissesId() {
+        // Given
+        setupWebClientMock(Mono.just(new MockApiResponse<>(createEmployeeList(), "Success", null)));
+        employeeService.getAllEmployees().block();
+        String id = UUID.randomUUID().toString();
+        Employee employee = createEmployee("Created Elsewhere", 50000);
+        when(requestHeadersUriSpec.uri("/{id}", id)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.just(new MockApiResponse<>(employee, "Success", null)));
+
+        // When & Then
+        StepVerifier.create(employeeService.getEmployeeById(id)).expectNext(employee).verifyComplete();
+    }
+
     @Test
     void getEmployeeById_shouldThrowNotFoundException_whenEmployeeNotFound() {
         // Given
@@ -283,6 +477,50 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getTopEarners_shouldReturnHighestPaidEmployeesInOrder() {
+        // Given
+        List<Employee> employees = createEmployeeList();
+        MockApiResponse<List<Employee>> response = new MockApiResponse<>(employees, "Success", null);
+
+        setupWebClientMock(Mono.just(response));
+
+        // When & Then
+        StepVerifier.create(employeeService.getTopEarners(3))
+                .expectNextMatches(top -> top.size() == 3
+                        && top.get(0).getName().equals("Employee 11")
+                        && top.get(1).getName().equals("Employee 10")
+                        && top.get(2).getName().equals("Employee 9"))
+                .verifyComplete();
+    }
+
+    @Test
+    void createEmployee_shouldPatchCachedSalaryIndexWithoutRefetching() {
+        // Given
+        List<Employee> employees = createEmployeeList();
+        setupWebClientMock(Mono.just(new MockApiResponse<>(employees, "Success", null)));
+        employeeService.getHighestSalary().block();
+
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("New Employee")
+                .salary(200000)
+                .age(30)
+                .title("Developer")
+                .build();
+        Employee createdEmployee = createEmployee("New Employee", 200000);
+        setupCreateEmployeeMock(Mono.just(new MockApiResponse<>(createdEmployee, "Success", null)));
+
+        // When
+        employeeService.createEmployee(input).block();
+
+        // Then
+        StepVerifier.create(employeeService.getHighestSalary()).expectNext(200000).verifyComplete();
+        StepVerifier.create(employeeService.getTopTenHighestEarningEmployeeNames())
+                .expectNextMatches(names -> names.get(0).equals("New Employee"))
+                .verifyComplete();
+        verify(webClient, times(1)).get();
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee() {
         // Given
@@ -352,6 +590,36 @@ class EmployeeServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void deleteEmployeeById_shouldRemoveEmployeeFromCachedRosterWithoutRefetching() {
+        // Given
+        List<Employee> employees = createEmployeeList();
+        Employee employee = employees.get(5);
+        setupWebClientMock(Mono.just(new MockApiResponse<>(employees, "Success", null)));
+        employeeService.getAllEmployees().block();
+
+        WebClient.RequestHeadersUriSpec deleteHeadersUriSpec = mock(WebClient.RequestHeadersUriSpec.class);
+        WebClient.RequestHeadersSpec deleteHeadersSpec = mock(WebClient.RequestHeadersSpec.class);
+        WebClient.ResponseSpec deleteResponseSpec = mock(WebClient.ResponseSpec.class);
+        when(webClient.delete()).thenReturn(deleteHeadersUriSpec);
+        when(deleteHeadersUriSpec.uri("/{name}", employee.getName())).thenReturn(deleteHeadersSpec);
+        when(deleteHeadersSpec.retrieve()).thenReturn(deleteResponseSpec);
+        when(deleteResponseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(Mono.just(new MockApiResponse<>(true, "Success", null)));
+
+        // When
+        employeeService.deleteEmployeeById(employee.getId().toString()).block();
+
+        // Then
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectNextMatches(list -> list.size() == employees.size() - 1 && !list.contains(employee))
+                .verifyComplete();
+        StepVerifier.create(employeeService.searchEmployeesByName(employee.getName()))
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+        verify(webClient, times(1)).get();
+    }
+
     @Test
     @Timeout(value = 5, unit = TimeUnit.SECONDS)
     void getAllEmployees_shouldHandleConcurrentRequests() throws InterruptedException {
@@ -386,6 +654,48 @@ class EmployeeServiceTest {
         executor.shutdown();
     }
 
+    @Test
+    void getAllEmployees_shouldCoalesceConcurrentUpstreamFetches() {
+        // Given
+        List<Employee> employees = Arrays.asList(createEmployee("Test Employee", 50000));
+        Sinks.One<MockApiResponse<List<Employee>>> upstream = Sinks.one();
+        List<List<Employee>> results = new CopyOnWriteArrayList<>();
+
+        setupWebClientMock(upstream.asMono());
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            employeeService.getAllEmployees().subscribe(results::add);
+        }
+        upstream.tryEmitValue(new MockApiResponse<>(employees, "Success", null));
+
+        // Then
+        assertEquals(50, results.size());
+        assertTrue(results.stream().allMatch(employees::equals));
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void getEmployeeById_shouldCoalesceConcurrentLookupsForSameId() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        Employee employee = createEmployee("John Doe", 50000);
+        Sinks.One<MockApiResponse<Employee>> upstream = Sinks.one();
+        List<Employee> results = new CopyOnWriteArrayList<>();
+
+        setupWebClientMockWithUri(id, upstream.asMono());
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            employeeService.getEmployeeById(id).subscribe(results::add);
+        }
+        upstream.tryEmitValue(new MockApiResponse<>(employee, "Success", null));
+
+        // Then
+        assertEquals(20, results.size());
+        verify(requestHeadersSpec, times(1)).retrieve();
+    }
+
     @Test
     void getAllEmployees_shouldHandleServiceUnavailable() {
         // Given
@@ -414,6 +724,105 @@ class EmployeeServiceTest {
                 .verify();
     }
 
+    @Test
+    void getAllEmployees_shouldServeLastKnownGoodRoster_whenCircuitIsOpen() {
+        // Given
+        RosterCache uncached = new RosterCache(
+                false, Duration.ofSeconds(30), new LookupPolicy(Duration.ZERO, Duration.ZERO), Clock.systemUTC());
+        EmployeeService service = new EmployeeService(
+                webClient,
+                retry,
+                upstreamScheduler,
+                circuitBreaker,
+                uncached,
+                new DataArrayDecoder(objectMapper),
+                RosterPaging.disabled());
+        List<Employee> employees = createEmployeeList();
+        setupWebClientMock(Mono.just(new MockApiResponse<>(employees, "Success", null)));
+        StepVerifier.create(service.getAllEmployees()).expectNext(employees).verifyComplete();
+        circuitBreaker.transitionToOpenState();
+        Staleness staleness = new Staleness();
+
+        // When & Then
+        StepVerifier.create(service.getAllEmployees().contextWrite(staleness::attach))
+                .expectNext(employees)
+                .verifyComplete();
+        assertTrue(staleness.age().isPresent());
+        verify(responseSpec, times(1)).toEntity(any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllEmployees_shouldReuseRoster_whenUpstreamAnswersNotModified() {
+        // Given
+        RosterCache uncached = new RosterCache(
+                false, Duration.ofSeconds(30), new LookupPolicy(Duration.ZERO, Duration.ZERO), Clock.systemUTC());
+        EmployeeService service = new EmployeeService(
+                webClient,
+                retry,
+                upstreamScheduler,
+                circuitBreaker,
+                uncached,
+                new DataArrayDecoder(objectMapper),
+                RosterPaging.disabled());
+        List<Employee> employees = createEmployeeList();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.ifNoneMatch("\"v1\"")).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        MockApiResponse<List<Employee>> response = new MockApiResponse<>(employees, "Success", null);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(
+                        Mono.just(ResponseEntity.ok().eTag("v1").body(response)),
+                        Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+        List<Employee> fetched = service.getAllEmployees().block();
+
+        // When & Then
+        StepVerifier.create(service.getAllEmployees())
+                .assertNext(revalidated -> assertEquals(fetched, revalidated))
+                .verifyComplete();
+        verify(requestHeadersUriSpec).ifNoneMatch("\"v1\"");
+    }
+
+    @Test
+    void getAllEmployees_shouldFailFast_whenCircuitIsOpenAndNothingWasFetchedYet() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        setupWebClientMock(Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return new MockApiResponse<>(createEmployeeList(), "Success", null);
+        }));
+        circuitBreaker.transitionToOpenState();
+
+        // When & Then
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectError(UpstreamUnavailableException.class)
+                .verify();
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void createEmployee_shouldFailFast_whenCircuitIsOpen() {
+        // Given
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("New Employee")
+                .salary(70000)
+                .age(30)
+                .title("Developer")
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+        setupCreateEmployeeMock(Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return new MockApiResponse<>(createEmployee("New Employee", 70000), "Success", null);
+        }));
+        circuitBreaker.transitionToOpenState();
+
+        // When & Then
+        StepVerifier.create(employeeService.createEmployee(input))
+                .expectError(UpstreamUnavailableException.class)
+                .verify();
+        assertEquals(0, calls.get());
+    }
+
     @Test
     void searchEmployeesByName_shouldHandleNullAndEmptySearchString() {
         // Given
@@ -538,7 +947,38 @@ class EmployeeServiceTest {
     private void setupWebClientMock(Mono<MockApiResponse<List<Employee>>> response) {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(response);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(response.map(ResponseEntity::ok));
+    }
+
+    /** The first page is fetched as an entity so it can be revalidated; later pages only as bodies. */
+    @SuppressWarnings("unchecked")
+    private void setupPagedWebClientMock(Mono<MockApiResponse<EmployeePage>> first, Mono<?>... rest) {
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(first.map(ResponseEntity::ok));
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
+                .thenReturn(rest[0], Arrays.copyOfRange(rest, 1, rest.length));
+    }
+
+    private EmployeeService pagedService() {
+        RosterCache rosterCache = new RosterCache(
+                true,
+                Duration.ofSeconds(30),
+                new LookupPolicy(Duration.ofSeconds(60), Duration.ZERO),
+                Clock.systemUTC());
+        return new EmployeeService(
+                webClient,
+                retry,
+                upstreamScheduler,
+                circuitBreaker,
+                rosterCache,
+                new DataArrayDecoder(objectMapper),
+                new RosterPaging(true, 2, 2));
+    }
+
+    private MockApiResponse<EmployeePage> page(List<Employee> employees, List<String> cursors) {
+        return new MockApiResponse<>(new EmployeePage(employees, 3, null, cursors), "Success", null);
     }
 
     private void setupWebClientMockWithUri(String uri, Mono<MockApiResponse<Employee>> response) {
@@ -556,6 +996,19 @@ class EmployeeServiceTest {
         when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(response);
     }
 
+    private List<byte[]> chunks(Object body, int chunkSize) throws Exception {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        List<byte[]> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            chunks.add(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private Flux<DataBuffer> buffers(List<byte[]> chunks) {
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
     private Employee createEmployee(String name, int salary) {
         return Employee.builder()
                 .id(UUID.randomUUID())
@@ -0,0 +1,186 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.LookupPolicy;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.model.ChangeFeedSync;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import com.reliaquest.api.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@ExtendWith(MockitoExtension.class)
+class RosterChangeFeedTest {
+
+    @Mock private WebClient webClient;
+    @Mock private EmployeeService employeeService;
+    @Mock private UpstreamScheduler upstreamScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MutableClock clock;
+    private RosterCache rosterCache;
+    private RosterChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rosterCache = new RosterCache(
+                true, Duration.ofSeconds(30), new LookupPolicy(Duration.ofSeconds(60), Duration.ZERO), clock);
+        feed = new RosterChangeFeed(
+                webClient,
+                objectMapper,
+                employeeService,
+                rosterCache,
+                upstreamScheduler,
+                Duration.ofSeconds(45),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30));
+    }
+
+    @Test
+    void handle_shouldApplyChangesToCachedRoster_whenFeedResumes() throws Exception {
+        // Given
+        Employee existing = createEmployee("John Doe");
+        Employee created = createEmployee("Jane Smith");
+        rosterCache.get(() -> Mono.just(List.of(existing))).block();
+        feed.handle(event("e-1", "sync", new ChangeFeedSync(1, true)));
+
+        // When
+        feed.handle(event("e-2", "created", new EmployeeChange(2, EmployeeChange.Type.CREATED, created)));
+        feed.handle(event("e-3", "deleted", new EmployeeChange(3, EmployeeChange.Type.DELETED, existing)));
+
+        // Then
+        RosterSnapshot current = rosterCache.current().orElseThrow();
+        assertEquals(List.of(created), current.employees());
+        assertTrue(feed.isSynced());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void handle_shouldNotDuplicateEmployee_whenCreateIsAlreadyCached() throws Exception {
+        // Given
+        Employee existing = createEmployee("John Doe");
+        rosterCache.get(() -> Mono.just(List.of(existing))).block();
+        feed.handle(event("e-1", "sync", new ChangeFeedSync(1, true)));
+
+        // When
+        feed.handle(event("e-2", "created", new EmployeeChange(2, EmployeeChange.Type.CREATED, existing)));
+
+        // Then
+        assertEquals(List.of(existing), rosterCache.current().orElseThrow().employees());
+    }
+
+    @Test
+    void handle_shouldRefetchRosterAndKeepItFresh_whenFeedCannotResume() throws Exception {
+        // Given
+        Employee existing = createEmployee("John Doe");
+        when(employeeService.refreshRoster())
+                .thenReturn(rosterCache.refresh(() -> Mono.just(List.of(existing))));
+
+        // When
+        feed.handle(event("e-7", "sync", new ChangeFeedSync(7, false)));
+        clock.advance(Duration.ofMinutes(5));
+        feed.handle(ServerSentEvent.<String>builder().event("heartbeat").data("7").build());
+
+        // Then
+        RosterSnapshot current = rosterCache.current().orElseThrow();
+        assertTrue(feed.isSynced());
+        assertFalse(rosterCache.isStale(current));
+        verify(employeeService).refreshRoster();
+    }
+
+    @Test
+    void handle_shouldRefetchAfterSync_whenEarlierLoadIsInFlight() throws Exception {
+        // Given
+        Employee early = createEmployee("John Doe");
+        Employee late = createEmployee("Jane Smith");
+        Sinks.One<List<Employee>> inFlight = Sinks.one();
+        rosterCache.get(inFlight::asMono).subscribe();
+        when(employeeService.refreshRoster()).thenReturn(rosterCache.refresh(() -> Mono.just(List.of(early, late))));
+
+        // When
+        feed.handle(event("e-7", "sync", new ChangeFeedSync(7, false)));
+        boolean syncedBeforeEarlierLoad = feed.isSynced();
+        inFlight.tryEmitValue(List.of(early));
+
+        // Then
+        assertFalse(syncedBeforeEarlierLoad);
+        assertTrue(feed.isSynced());
+        assertEquals(List.of(early, late), rosterCache.current().orElseThrow().employees());
+    }
+
+    @Test
+    void start_shouldConnectThroughUpstreamScheduler() {
+        // Given
+        WebClient client = mock(WebClient.class, RETURNS_DEEP_STUBS);
+        when(upstreamScheduler.scheduleMany(eq(Priority.BULK), any())).thenReturn(Flux.never());
+        RosterChangeFeed scheduled = new RosterChangeFeed(
+                client,
+                objectMapper,
+                employeeService,
+                rosterCache,
+                upstreamScheduler,
+                Duration.ofSeconds(45),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30));
+
+        // When
+        scheduled.start();
+
+        // Then
+        verify(upstreamScheduler).scheduleMany(eq(Priority.BULK), any());
+        scheduled.stop();
+    }
+
+    @Test
+    void handle_shouldNotConfirmRoster_beforeFeedIsInSync() {
+        // Given
+        rosterCache.get(() -> Mono.just(List.of(createEmployee("John Doe")))).block();
+        clock.advance(Duration.ofMinutes(5));
+
+        // When
+        feed.handle(ServerSentEvent.<String>builder().event("heartbeat").data("1").build());
+
+        // Then
+        assertTrue(rosterCache.isStale(rosterCache.current().orElseThrow()));
+        assertFalse(feed.isSynced());
+    }
+
+    private ServerSentEvent<String> event(String id, String name, Object data) throws Exception {
+        return ServerSentEvent.<String>builder()
+                .id(id)
+                .event(name)
+                .data(objectMapper.writeValueAsString(data))
+                .build();
+    }
+
+    private Employee createEmployee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email(name.toLowerCase().replace(" ", "") + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.reliaquest.api.codec.EmployeeJsonComponent;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.MockEmployeeJsonComponent;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Roster payload encoding and decoding, comparing the reflective {@code @JsonNaming(PrefixNamingStrategy)} bean
+ * mapping with the hand-written codecs the applications register. {@link MockEmployee} is only ever written (the
+ * server has no decoder for it); the API decodes the same payload as {@link Employee}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<List<Employee>> EMPLOYEES = new TypeReference<>() {};
+
+    @Param({"1", "1000"})
+    private int rosterSize;
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper codec = new ObjectMapper()
+            .registerModule(new SimpleModule()
+                    .addSerializer(new EmployeeJsonComponent.Serializer())
+                    .addDeserializer(Employee.class, new EmployeeJsonComponent.Deserializer())
+                    .addSerializer(new MockEmployeeJsonComponent.Serializer()));
+
+    private List<Employee> employees;
+    private List<MockEmployee> mockEmployees;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        employees = Rosters.employees(rosterSize);
+        mockEmployees = Rosters.mockEmployees(rosterSize);
+        payload = reflective.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public byte[] encodeEmployeeReflective() throws IOException {
+        return reflective.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] encodeEmployeeCodec() throws IOException {
+        return codec.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> decodeEmployeeReflective() throws IOException {
+        return reflective.readValue(payload, EMPLOYEES);
+    }
+
+    @Benchmark
+    public List<Employee> decodeEmployeeCodec() throws IOException {
+        return codec.readValue(payload, EMPLOYEES);
+    }
+
+    @Benchmark
+    public byte[] encodeMockEmployeeReflective() throws IOException {
+        return reflective.writeValueAsBytes(mockEmployees);
+    }
+
+    @Benchmark
+    public byte[] encodeMockEmployeeCodec() throws IOException {
+        return codec.writeValueAsBytes(mockEmployees);
+    }
+}
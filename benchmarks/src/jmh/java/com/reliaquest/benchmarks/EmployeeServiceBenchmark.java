@@ -0,0 +1,97 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.LookupPolicy;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.codec.DataArrayDecoder;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.ratelimit.AdaptiveRateController;
+import com.reliaquest.api.ratelimit.Priority;
+import com.reliaquest.api.ratelimit.PriorityPolicy;
+import com.reliaquest.api.ratelimit.UpstreamScheduler;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterPaging;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Roster transformations behind the read endpoints, answered from a warm cache. The cache TTL outlives the run, so no
+ * call reaches the (unreachable) upstream and the numbers cover the service pipeline plus the snapshot indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private List<Employee> roster;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        Clock clock = Clock.systemUTC();
+        AdaptiveRateController rateController = new AdaptiveRateController(
+                Duration.ofSeconds(30), Duration.ofSeconds(90), Duration.ofSeconds(1), clock);
+        PriorityPolicy policy = new PriorityPolicy(Duration.ofSeconds(1), 100);
+        UpstreamScheduler upstreamScheduler = new UpstreamScheduler(
+                rateController,
+                Map.of(Priority.CRITICAL, policy, Priority.INTERACTIVE, policy, Priority.BULK, policy),
+                0,
+                Duration.ZERO,
+                clock,
+                new SimpleMeterRegistry());
+        RosterCache rosterCache = new RosterCache(
+                true, Duration.ofDays(1), new LookupPolicy(Duration.ofDays(1), Duration.ZERO), clock);
+        employeeService = new EmployeeService(
+                WebClient.create(),
+                Retry.ofDefaults("benchmark"),
+                upstreamScheduler,
+                CircuitBreaker.ofDefaults("benchmark"),
+                rosterCache,
+                new DataArrayDecoder(new ObjectMapper()),
+                RosterPaging.disabled());
+        rosterCache.get(() -> Mono.just(roster)).block();
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeesByName() {
+        return employeeService.searchEmployeesByName("smi").block();
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return employeeService.getHighestSalary().block();
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().block();
+    }
+
+    /** What every roster refresh pays before the reads above become cheap. */
+    @Benchmark
+    public RosterSnapshot buildSnapshot() {
+        return RosterSnapshot.of(1, roster, Instant.EPOCH);
+    }
+}
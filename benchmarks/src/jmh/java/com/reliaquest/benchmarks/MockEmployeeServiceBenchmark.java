@@ -0,0 +1,85 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.PinnedSnapshots;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Lookups, deletes and full listings against the mock server's in-memory roster. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MockEmployeeServiceBenchmark {
+
+    private static final int LOOKUP_IDS = 1024;
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int rosterSize;
+
+    private MockEmployeeStore mockEmployees;
+    private MockEmployeeService mockEmployeeService;
+    private UUID[] ids;
+    private int nextId;
+    private MockEmployee victim;
+    private DeleteMockEmployeeInput deleteVictim;
+
+    @Setup
+    public void setUp() {
+        List<MockEmployee> roster = Rosters.mockEmployees(rosterSize);
+        mockEmployees = new MockEmployeeStore(roster);
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(), mockEmployees, new PinnedSnapshots(Duration.ofMinutes(5), 32, Clock.systemUTC()));
+        SplittableRandom random = new SplittableRandom(7);
+        ids = new UUID[LOOKUP_IDS];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = roster.get(random.nextInt(rosterSize)).getId();
+        }
+        victim = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Unique Victim")
+                .salary(50_000)
+                .age(30)
+                .title("Engineer")
+                .email("unique.victim@company.com")
+                .build();
+        mockEmployees.add(victim);
+        deleteVictim = new DeleteMockEmployeeInput();
+        deleteVictim.setName(victim.getName());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        nextId = (nextId + 1) & (LOOKUP_IDS - 1);
+        return mockEmployeeService.findById(ids[nextId]);
+    }
+
+    /** Deletes the last employee and appends it again, so the roster keeps its size. */
+    @Benchmark
+    public boolean delete() {
+        boolean deleted = mockEmployeeService.delete(deleteVictim);
+        mockEmployees.add(victim);
+        return deleted;
+    }
+
+    @Benchmark
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeService.getMockEmployees();
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.limit.MonotonicClock;
+import com.reliaquest.server.limit.PenaltyLimiter;
+import com.reliaquest.server.limit.RequestLimiter;
+import com.reliaquest.server.limit.SlidingWindowLimiter;
+import com.reliaquest.server.limit.TokenBucketLimiter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * {@link RequestLimitInterceptor#preHandle} with one shared interceptor, as the server registers it, for each limiter.
+ * {@code PENALTY} is the default profile's limiter: after the first few calls every call takes the rejecting path,
+ * which is the one that runs under load. The token bucket and sliding window admit at a high rate, so their admitting
+ * path is measured too. With {@code perClient} every benchmark thread is its own client address; the contended
+ * variants show what concurrent requests pay for the shared state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestLimitInterceptorBenchmark {
+
+    @Param({"PENALTY", "TOKEN_BUCKET", "SLIDING_WINDOW"})
+    public String limiter;
+
+    @Param({"false", "true"})
+    public boolean perClient;
+
+    private RequestLimitInterceptor interceptor;
+
+    @Setup
+    public void setUp() {
+        MonotonicClock clock = MonotonicClock.system();
+        RequestLimiter requestLimiter =
+                switch (limiter) {
+                    case "PENALTY" -> new PenaltyLimiter(7, Duration.ofSeconds(60), 64, clock);
+                    case "TOKEN_BUCKET" -> new TokenBucketLimiter(1_000_000, 1_000, 64, clock);
+                    case "SLIDING_WINDOW" -> new SlidingWindowLimiter(1_000_000, Duration.ofSeconds(1), 64, clock);
+                    default -> throw new IllegalArgumentException(limiter);
+                };
+        interceptor = new RequestLimitInterceptor(requestLimiter, perClient);
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+        private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup
+        public void setUp() {
+            request.setRemoteAddr("10.0.0." + CLIENTS.incrementAndGet());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean preHandle(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean preHandleContended(Exchange exchange) {
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/** Seeded rosters, so every run of a benchmark sees the same names and salaries. */
+final class Rosters {
+
+    private static final long SEED = 42;
+
+    private static final String[] FIRST_NAMES = {
+        "Ava", "Ben", "Chloe", "Daniel", "Emma", "Felix", "Grace", "Henry", "Isla", "Jack", "Keira", "Liam", "Mia",
+        "Noah", "Olivia", "Peter", "Quinn", "Ruby", "Samuel", "Tara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Anderson", "Brown", "Clark", "Davis", "Evans", "Fisher", "Garcia", "Harris", "Ingram", "Johnson", "King",
+        "Lopez", "Miller", "Nelson", "Owens", "Parker", "Reed", "Smith", "Taylor", "Walker"
+    };
+    private static final String[] TITLES = {"Engineer", "Analyst", "Manager", "Designer", "Consultant", "Director"};
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random);
+            employees.add(Employee.builder()
+                    .id(uuid(random))
+                    .name(name)
+                    .salary(random.nextInt(30_000, 500_000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(email(name, i))
+                    .build());
+        }
+        return employees;
+    }
+
+    static List<MockEmployee> mockEmployees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = name(random);
+            employees.add(MockEmployee.builder()
+                    .id(uuid(random))
+                    .name(name)
+                    .salary(random.nextInt(30_000, 500_000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(email(name, i))
+                    .build());
+        }
+        return employees;
+    }
+
+    private static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private static String email(String name, int i) {
+        return name.toLowerCase().replace(' ', '.') + i + "@company.com";
+    }
+}
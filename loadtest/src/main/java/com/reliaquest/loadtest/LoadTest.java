@@ -0,0 +1,47 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * End-to-end load test: starts the mock server and the api on loopback ports, warms up, then measures per-route
+ * throughput and latency under an open-model arrival rate. See {@code loadtest.properties} for the settings.
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        Path runDir = config.reportDir().resolve(LocalDateTime.now().format(RUN_ID));
+        Files.createDirectories(runDir);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("Starting server (%d employees) and api, logs in %s%n", config.employees(), runDir);
+        try (LocalStack stack = LocalStack.start(config, client, runDir)) {
+            Workload workload = Workload.prepare(client, stack.employees(), config);
+            OpenLoadGenerator generator =
+                    new OpenLoadGenerator(client, workload, config.rate(), config.maxInFlight());
+            Duration drainTimeout = config.requestTimeout().plusSeconds(5);
+
+            if (!config.warmup().isZero()) {
+                System.out.printf("Warming up for %ds at %d/s%n", config.warmup().toSeconds(), config.rate());
+                generator.run(config.warmup(), drainTimeout);
+            }
+            System.out.printf("Measuring for %ds at %d/s%n", config.duration().toSeconds(), config.rate());
+            Map<Route, RouteStats.Snapshot> stats = generator.run(config.duration(), drainTimeout);
+            Path report = Report.write(runDir, config, workload.rosterSize(), config.duration(), stats);
+            System.out.printf("%nReport written to %s%n", report);
+        }
+    }
+}
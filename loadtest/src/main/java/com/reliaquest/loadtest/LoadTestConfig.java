@@ -0,0 +1,95 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/** Run settings: {@code loadtest.properties} defaults overlaid with {@code loadtest.*} system properties. */
+record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        Duration requestTimeout,
+        Map<Route, Integer> mix,
+        long seed,
+        int employees,
+        boolean requestLimit,
+        int apiPort,
+        int serverPort,
+        Path apiJar,
+        Path serverJar,
+        Path reportDir) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(defaults);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read loadtest.properties", e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PREFIX))
+                .forEach(key -> properties.setProperty(key, System.getProperty(key)));
+        return new LoadTestConfig(
+                positive(properties, "rate"),
+                Duration.ofSeconds(Long.parseLong(required(properties, "warmup-seconds"))),
+                Duration.ofSeconds(positive(properties, "duration-seconds")),
+                positive(properties, "max-in-flight"),
+                Duration.ofSeconds(positive(properties, "request-timeout-seconds")),
+                mix(required(properties, "mix")),
+                Long.parseLong(required(properties, "seed")),
+                positive(properties, "employees"),
+                Boolean.parseBoolean(required(properties, "request-limit")),
+                positive(properties, "api-port"),
+                positive(properties, "server-port"),
+                Path.of(required(properties, "api-jar")),
+                Path.of(required(properties, "server-jar")),
+                Path.of(properties.getProperty(PREFIX + "report-dir", "build/reports/loadtest")));
+    }
+
+    /** Parses {@code route:weight} pairs, e.g. {@code getById:40,create:5}. */
+    static Map<Route, Integer> mix(String value) {
+        Map<Route, Integer> mix = new EnumMap<>(Route.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must be route:weight, got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight for " + parts[0] + " must not be negative");
+            }
+            if (weight > 0) {
+                mix.put(Route.byKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one route a positive weight");
+        }
+        return mix;
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + PREFIX + key);
+        }
+        return value.trim();
+    }
+
+    private static int positive(Properties properties, String key) {
+        int value = Integer.parseInt(required(properties, key));
+        if (value <= 0) {
+            throw new IllegalArgumentException(PREFIX + key + " must be positive, got " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the api, each started from its boot jar in its own JVM on a loopback port, with output sent to
+ * log files in the run directory. Everything runs offline.
+ */
+final class LocalStack implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+
+    private final List<Process> processes = new ArrayList<>();
+    private final URI employees;
+
+    private LocalStack(int apiPort) {
+        this.employees = URI.create("http://localhost:" + apiPort + "/api/v1/employee");
+    }
+
+    static LocalStack start(LoadTestConfig config, HttpClient client, Path runDir)
+            throws IOException, InterruptedException {
+        LocalStack stack = new LocalStack(config.apiPort());
+        try {
+            stack.launch(
+                    config.serverJar(),
+                    runDir.resolve("server.log"),
+                    "--server.port=" + config.serverPort(),
+                    "--mock.employees.max=" + config.employees(),
+                    "--mock.employees.seed=" + config.seed(),
+                    "--mock.request-limit.enabled=" + config.requestLimit(),
+                    "--mock.request-limit.seed=" + config.seed(),
+                    "--logging.level.com.reliaquest=INFO");
+            awaitHealthy(client, config.serverPort());
+            stack.launch(
+                    config.apiJar(),
+                    runDir.resolve("api.log"),
+                    "--server.port=" + config.apiPort(),
+                    "--mock-employee-api.base-url=http://localhost:" + config.serverPort() + "/api/v1/employee",
+                    "--logging.level.com.reliaquest=INFO");
+            awaitHealthy(client, config.apiPort());
+            return stack;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    URI employees() {
+        return employees;
+    }
+
+    private void launch(Path jar, Path log, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(List.of(args));
+        processes.add(new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start());
+    }
+
+    private static void awaitHealthy(HttpClient client, int port) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(POLL_INTERVAL.multipliedBy(4))
+                .build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Nothing healthy on port " + port + " after " + STARTUP_TIMEOUT);
+    }
+
+    /** Stops the api before the server it depends on. */
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+        processes.clear();
+    }
+}
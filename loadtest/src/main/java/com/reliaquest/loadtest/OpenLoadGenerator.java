@@ -0,0 +1,86 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are started on a fixed arrival schedule whether or not earlier ones have returned, each on
+ * its own virtual thread. Latency is measured from the scheduled start, so a stalled server or a late generator shows
+ * up in the percentiles instead of silently lowering the offered rate.
+ */
+final class OpenLoadGenerator {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final long intervalNanos;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    OpenLoadGenerator(HttpClient client, Workload workload, int rate, int maxInFlight) {
+        this.client = client;
+        this.workload = workload;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /** Runs one phase and waits for its outstanding requests before returning their stats. */
+    Map<Route, RouteStats.Snapshot> run(Duration duration, Duration drainTimeout) throws InterruptedException {
+        Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+        for (Route route : Route.values()) {
+            stats.put(route, new RouteStats());
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            for (long intended = start; intended < end; intended += intervalNanos) {
+                long delay = intended - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Route route = workload.nextRoute();
+                RouteStats routeStats = stats.get(route);
+                HttpRequest request = workload.request(route);
+                if (request == null) {
+                    routeStats.recordSkipped();
+                } else if (!inFlight.tryAcquire()) {
+                    routeStats.recordDropped();
+                } else {
+                    long scheduledAt = intended;
+                    executor.execute(() -> send(route, request, scheduledAt, routeStats));
+                }
+            }
+            if (!inFlight.tryAcquire(maxInFlight, drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Requests still outstanding " + drainTimeout + " after the phase");
+            }
+            inFlight.release(maxInFlight);
+        }
+        Map<Route, RouteStats.Snapshot> snapshots = new EnumMap<>(Route.class);
+        stats.forEach((route, routeStats) -> snapshots.put(route, routeStats.snapshot()));
+        return snapshots;
+    }
+
+    private void send(Route route, HttpRequest request, long scheduledAt, RouteStats stats) {
+        try {
+            HttpResponse<String> response = client.send(request, workload.bodyHandler(route));
+            stats.recordResponse(response.statusCode(), System.nanoTime() - scheduledAt);
+            workload.onResponse(route, response);
+        } catch (IOException e) {
+            stats.recordFailure(System.nanoTime() - scheduledAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.release();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes a run's results: {@code report.txt} with the settings and a per-route summary, and one HdrHistogram
+ * percentile distribution ({@code <route>.hgrm}, in milliseconds) per route for plotting or comparing runs.
+ */
+final class Report {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private Report() {}
+
+    static Path write(
+            Path runDir,
+            LoadTestConfig config,
+            int rosterSize,
+            Duration measured,
+            Map<Route, RouteStats.Snapshot> stats)
+            throws IOException {
+        Path report = runDir.resolve("report.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report))) {
+            summary(out, config, rosterSize, measured, stats);
+        }
+        summary(System.out, config, rosterSize, measured, stats);
+        for (Map.Entry<Route, RouteStats.Snapshot> entry : stats.entrySet()) {
+            if (entry.getValue().sent() == 0) {
+                continue;
+            }
+            Path distribution = runDir.resolve(entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+                entry.getValue().latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        return report;
+    }
+
+    private static void summary(
+            PrintStream out,
+            LoadTestConfig config,
+            int rosterSize,
+            Duration measured,
+            Map<Route, RouteStats.Snapshot> stats) {
+        out.printf(
+                "rate=%d/s warmup=%ds duration=%ds max-in-flight=%d employees=%d (roster seen: %d)"
+                        + " request-limit=%s seed=%d%n",
+                config.rate(),
+                config.warmup().toSeconds(),
+                config.duration().toSeconds(),
+                config.maxInFlight(),
+                config.employees(),
+                rosterSize,
+                config.requestLimit(),
+                config.seed());
+        out.printf("mix=%s%n%n", config.mix());
+        out.printf(
+                "%-40s %8s %8s %8s %8s %9s %9s %9s %9s%n",
+                "route", "sent", "errors", "dropped", "rps", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        for (Map.Entry<Route, RouteStats.Snapshot> entry : stats.entrySet()) {
+            RouteStats.Snapshot snapshot = entry.getValue();
+            total.add(snapshot.latency());
+            if (snapshot.sent() == 0 && snapshot.dropped() == 0) {
+                continue;
+            }
+            row(out, entry.getKey().description(), snapshot.latency(), snapshot.errors(), snapshot.dropped(), measured);
+            out.printf("%-40s statuses=%s failed=%d%n", "", snapshot.statuses(), snapshot.failed());
+        }
+        long errors = stats.values().stream().mapToLong(RouteStats.Snapshot::errors).sum();
+        long dropped = stats.values().stream().mapToLong(RouteStats.Snapshot::dropped).sum();
+        row(out, "all", total, errors, dropped, measured);
+    }
+
+    private static void row(
+            PrintStream out, String name, Histogram latency, long errors, long dropped, Duration measured) {
+        out.printf(
+                "%-40s %8d %8d %8d %8.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                latency.getTotalCount(),
+                errors,
+                dropped,
+                latency.getTotalCount() / (measured.toNanos() / 1e9),
+                latency.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                latency.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                latency.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/** The {@code IEmployeeController} routes under {@code /api/v1/employee}. */
+enum Route {
+    GET_ALL("getAll", "GET /"),
+    SEARCH("search", "GET /search/{searchString}"),
+    GET_BY_ID("getById", "GET /{id}"),
+    HIGHEST_SALARY("highestSalary", "GET /highestSalary"),
+    TOP_TEN("topTen", "GET /topTenHighestEarningEmployeeNames"),
+    CREATE("create", "POST /"),
+    DELETE("delete", "DELETE /{id}");
+
+    private final String key;
+    private final String description;
+
+    Route(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String description() {
+        return description;
+    }
+
+    static Route byKey(String key) {
+        return Arrays.stream(values())
+                .filter(route -> route.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Route::key).toList()));
+    }
+}
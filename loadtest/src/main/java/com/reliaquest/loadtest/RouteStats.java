@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/** Outcomes of one route within one phase. Latencies are nanoseconds from the intended send time. */
+final class RouteStats {
+
+    private final Recorder latency = new Recorder(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+    }
+
+    /** No response at all: connection refused, reset or timed out. */
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        failed.increment();
+    }
+
+    /** Arrived while {@code max-in-flight} requests were outstanding, so it was never sent. */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /** Nothing to send, e.g. a delete before any create completed. */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    /** Called once, after the phase has drained. */
+    Snapshot snapshot() {
+        Map<Integer, Long> byStatus = new TreeMap<>();
+        statuses.forEach((status, count) -> byStatus.put(status, count.sum()));
+        return new Snapshot(latency.getIntervalHistogram(), byStatus, failed.sum(), dropped.sum(), skipped.sum());
+    }
+
+    record Snapshot(Histogram latency, Map<Integer, Long> statuses, long failed, long dropped, long skipped) {
+
+        long sent() {
+            return latency.getTotalCount();
+        }
+
+        long errors() {
+            long errors = failed;
+            for (Map.Entry<Integer, Long> entry : statuses.entrySet()) {
+                if (entry.getKey() >= 400) {
+                    errors += entry.getValue();
+                }
+            }
+            return errors;
+        }
+    }
+}
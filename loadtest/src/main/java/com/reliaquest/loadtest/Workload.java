@@ -0,0 +1,158 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Builds the requests of a run. Routes are drawn from the configured mix with a seeded random, so two runs with the
+ * same settings send the same sequence. Reads use ids and names from the roster seen at startup; deletes only target
+ * employees the run itself created, leaving the seeded roster intact.
+ */
+final class Workload {
+
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String JSON = "application/json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI employees;
+    private final Duration requestTimeout;
+    private final Route[] wheel;
+    private final List<String> ids;
+    private final List<String> names;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+    private final SplittableRandom random;
+    private long createdCount;
+
+    private Workload(URI employees, LoadTestConfig config, List<String> ids, List<String> names) {
+        this.employees = employees;
+        this.requestTimeout = config.requestTimeout();
+        this.wheel = wheel(config.mix());
+        this.ids = ids;
+        this.names = names;
+        this.random = new SplittableRandom(config.seed());
+    }
+
+    /** Reads the roster once through the api to learn ids and names to query. */
+    static Workload prepare(HttpClient client, URI employees, LoadTestConfig config)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(employees).timeout(config.requestTimeout()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Roster request failed with " + response.statusCode() + ": "
+                    + response.body());
+        }
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (JsonNode employee : new ObjectMapper().readTree(response.body())) {
+            ids.add(employee.path("id").asText());
+            names.add(employee.path("employee_name").asText());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("Roster is empty, nothing to query");
+        }
+        return new Workload(employees, config, List.copyOf(ids), List.copyOf(names));
+    }
+
+    int rosterSize() {
+        return ids.size();
+    }
+
+    /** Only called from the generator thread. */
+    Route nextRoute() {
+        return wheel[random.nextInt(wheel.length)];
+    }
+
+    /**
+     * The next request for {@code route}, or {@code null} when there is nothing to send (a delete before any create
+     * has completed). Only called from the generator thread.
+     */
+    HttpRequest request(Route route) {
+        return switch (route) {
+            case GET_ALL -> get("");
+            case SEARCH -> get("/search/" + URLEncoder.encode(searchString(), StandardCharsets.UTF_8)
+                    .replace("+", "%20"));
+            case GET_BY_ID -> get("/" + ids.get(random.nextInt(ids.size())));
+            case HIGHEST_SALARY -> get("/highestSalary");
+            case TOP_TEN -> get("/topTenHighestEarningEmployeeNames");
+            case CREATE -> builder("")
+                    .header(CONTENT_TYPE, JSON)
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody()))
+                    .build();
+            case DELETE -> {
+                String id = created.poll();
+                yield id == null ? null : builder("/" + id).DELETE().build();
+            }
+        };
+    }
+
+    HttpResponse.BodyHandler<String> bodyHandler(Route route) {
+        return route == Route.CREATE
+                ? HttpResponse.BodyHandlers.ofString()
+                : HttpResponse.BodyHandlers.replacing(null);
+    }
+
+    /** Remembers created employees so later deletes have something to remove. */
+    void onResponse(Route route, HttpResponse<String> response) {
+        if (route != Route.CREATE || response.statusCode() / 100 != 2 || response.body() == null) {
+            return;
+        }
+        try {
+            String id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                created.add(id);
+            }
+        } catch (IOException e) {
+            // the status is already recorded; an unreadable body only means one fewer delete target
+        }
+    }
+
+    private String searchString() {
+        String name = names.get(random.nextInt(names.size()));
+        int length = Math.min(name.length(), 3 + random.nextInt(3));
+        int start = random.nextInt(name.length() - length + 1);
+        return name.substring(start, start + length).toLowerCase();
+    }
+
+    private String createBody() {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("name", "Load Test " + ++createdCount)
+                .put("salary", random.nextInt(30_000, 500_000))
+                .put("age", random.nextInt(16, 76))
+                .put("title", "Load Tester");
+        return body.toString();
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(employees + path)).timeout(requestTimeout);
+    }
+
+    private static Route[] wheel(Map<Route, Integer> mix) {
+        List<Route> wheel = new ArrayList<>();
+        mix.forEach((route, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(route);
+            }
+        });
+        return wheel.toArray(Route[]::new);
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the startup roster in parallel. Rows are produced in fixed-size chunks, each from its own {@link Faker}
+ * seeded from the generator seed and the chunk number, so the same seed, locale and count give the same employees in
+ * the same order whatever the number of cores.
+ */
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final long seed;
+    private final Locale locale;
+
+    public MockEmployeeGenerator(long seed, Locale locale) {
+        this.seed = seed;
+        this.locale = locale;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        int chunks = Math.ceilDiv(count, CHUNK_SIZE);
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> chunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<MockEmployee> chunk(int chunk, int size) {
+        Random random = new Random(new SplittableRandom(seed + chunk * 0x9E3779B97F4A7C15L).nextLong());
+        Faker faker = new Faker(locale, random);
+        return IntStream.range(0, size)
+                .mapToObj(ignored -> MockEmployee.builder()
+                        .id(uuid(random))
+                        .name(faker.name().fullName())
+                        .salary(faker.number().numberBetween(30000, 500000))
+                        .age(faker.number().numberBetween(16, 70))
+                        .title(faker.job().title())
+                        .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                faker.twitter().userName().toLowerCase()))
+                        .build())
+                .toList();
+    }
+
+    /** A version 4 UUID drawn from {@code random} instead of the shared secure random. */
+    private static UUID uuid(Random random) {
+        long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -1,19 +1,32 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.limit.MonotonicClock;
+import com.reliaquest.server.limit.PenaltyLimiter;
+import com.reliaquest.server.limit.RequestLimitProfile;
+import com.reliaquest.server.limit.RequestLimiter;
+import com.reliaquest.server.limit.SlidingWindowLimiter;
+import com.reliaquest.server.limit.TokenBucketLimiter;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.persist.MockEmployeePersistence;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.PinnedSnapshots;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +38,134 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    /*
+     * Load tests switch this off to measure the API itself rather than the mock's throttling, or pick a deterministic
+     * profile to measure how the API copes with a known limit.
+     */
+    @Value("${mock.request-limit.enabled:true}")
+    private boolean requestLimitEnabled;
+
+    @Value("${mock.request-limit.profile:RANDOM}")
+    private RequestLimitProfile requestLimitProfile;
+
+    @Value("${mock.request-limit.per-client:false}")
+    private boolean requestLimitPerClient;
+
+    @Value("${mock.request-limit.stripes:64}")
+    private int requestLimitStripes;
+
+    @Value("${mock.request-limit.seed:#{null}}")
+    private Long requestLimitSeed;
+
+    @Value("${mock.request-limit.limit:10}")
+    private int requestLimit;
+
+    @Value("${mock.request-limit.penalty:60s}")
+    private Duration requestLimitPenalty;
+
+    @Value("${mock.request-limit.window:1s}")
+    private Duration requestLimitWindow;
+
+    @Value("${mock.request-limit.rate:100}")
+    private double requestLimitRate;
+
+    @Value("${mock.request-limit.burst:20}")
+    private int requestLimitBurst;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. A fixed seed gives the same roster on every start; a lazy
+     * store generates it on first access instead of during startup. The store keeps its most recent changes for the
+     * change feed. With persistence enabled the roster is recovered from disk, and only generated when there is none.
+     */
+    @Bean
+    public MockEmployeeStore mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en-US}") Locale locale,
+            @Value("${mock.employees.lazy:false}") boolean lazy,
+            @Value("${mock.changes.retained:10000}") int retainedChanges,
+            ObjectProvider<MockEmployeePersistence> persistence) {
+        final var effectiveSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        final var generator = new MockEmployeeGenerator(effectiveSeed, locale);
+        log.info("Mock roster: {} employees, seed {}, {}", maxEmployees, effectiveSeed, lazy ? "lazy" : "eager");
+        final Supplier<List<MockEmployee>> employees = () -> {
+            final var started = System.nanoTime();
+            final var generated = generator.generate(maxEmployees);
+            log.info(
+                    "Generated {} employees in {} ms",
+                    generated.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return generated;
+        };
+        final var durable = persistence.getIfAvailable();
+        if (durable != null) {
+            if (lazy) {
+                log.info("Ignoring mock.employees.lazy: a persisted roster is recovered during startup");
+            }
+            try {
+                return durable.open(employees, retainedChanges);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open the persisted mock roster", e);
+            }
+        }
+        return lazy
+                ? MockEmployeeStore.lazy(employees, retainedChanges)
+                : new MockEmployeeStore(employees.get(), retainedChanges);
+    }
+
+    /*
+     * Journals every change to memory-mapped files and snapshots the roster periodically, so a restart keeps the
+     * roster and its changes. Closing it writes a final snapshot.
      */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public MockEmployeePersistence mockEmployeePersistence(
+            @Value("${mock.persistence.directory:mock-data}") Path directory,
+            @Value("${mock.persistence.snapshot-interval:1m}") Duration snapshotInterval,
+            @Value("${mock.persistence.journal-segment-size:67108864}") int journalSegmentSize,
+            @Value("${mock.persistence.fsync:false}") boolean fsync) {
+        log.info("Persisting the mock roster in {}, snapshot every {}", directory.toAbsolutePath(), snapshotInterval);
+        return new MockEmployeePersistence(directory, snapshotInterval, journalSegmentSize, fsync);
+    }
+
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public PinnedSnapshots pinnedSnapshots(
+            @Value("${mock.paging.snapshot-ttl:5m}") Duration ttl,
+            @Value("${mock.paging.max-pinned-snapshots:32}") int capacity) {
+        return new PinnedSnapshots(ttl, capacity, Clock.systemUTC());
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (requestLimitEnabled) {
+            registry.addInterceptor(new RequestLimitInterceptor(requestLimiter(), requestLimitPerClient));
+        }
+    }
+
+    private RequestLimiter requestLimiter() {
+        final var stripes = requestLimitPerClient ? requestLimitStripes : 1;
+        final var clock = MonotonicClock.system();
+        log.info(
+                "Request limit profile {}, {}",
+                requestLimitProfile,
+                requestLimitPerClient ? stripes + " client stripes" : "one budget for all clients");
+        return switch (requestLimitProfile) {
+            case RANDOM -> {
+                final var seed = requestLimitSeed != null ? requestLimitSeed : RandomGenerator.getDefault().nextLong();
+                final var random = new SplittableRandom(seed);
+                final var limit = random.nextInt(5, 10);
+                final var penalty = Duration.ofSeconds(random.nextInt(30, 90));
+                log.info("Request limit: {} requests, then a {} s penalty (seed {})", limit, penalty.toSeconds(), seed);
+                yield new PenaltyLimiter(limit, penalty, stripes, clock);
+            }
+            case PENALTY -> new PenaltyLimiter(requestLimit, requestLimitPenalty, stripes, clock);
+            case TOKEN_BUCKET -> new TokenBucketLimiter(requestLimitRate, requestLimitBurst, stripes, clock);
+            case SLIDING_WINDOW -> new SlidingWindowLimiter(requestLimit, requestLimitWindow, stripes, clock);
+        };
     }
 }
@@ -3,21 +3,29 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeChangeFeed;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +34,51 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeChangeFeed mockEmployeeChangeFeed;
+
+    /*
+     * Listings carry a strong ETag of the roster version, so a client revalidating an unchanged roster gets an empty
+     * 304 instead of the full payload. Returning null tells Spring the 304 has already been written.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(WebRequest request) {
+        final var snapshot = mockEmployeeService.getVersionedEmployees();
+        final var etag = etag(snapshot, "all");
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(snapshot.employees()));
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<Response<MockEmployeePage>> getFirstPage(@RequestParam("size") int size, WebRequest request) {
+        final var snapshot = mockEmployeeService.getVersionedEmployees();
+        final var etag = etag(snapshot, "size" + size);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(Response.handledWith(mockEmployeeService.firstPage(snapshot, size)));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Response<MockEmployeePage>> getPage(@RequestParam("cursor") String cursor) {
+        return mockEmployeeService
+                .page(cursor)
+                .map(page -> ResponseEntity.ok(Response.handledWith(page)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Listing snapshot expired, start again from the first page")));
+    }
+
+    /** Quoted, and distinct per representation of the same roster version. */
+    private String etag(MockEmployeeStore.Snapshot snapshot, String representation) {
+        return "\"" + mockEmployeeService.dataVersion(snapshot) + "-" + representation + "\"";
+    }
+
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getChanges(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return mockEmployeeChangeFeed.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
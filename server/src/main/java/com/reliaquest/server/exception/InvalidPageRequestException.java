@@ -0,0 +1,9 @@
+package com.reliaquest.server.exception;
+
+/** A paged listing request the client got wrong: a malformed cursor or an out-of-range page size. */
+public class InvalidPageRequestException extends RuntimeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
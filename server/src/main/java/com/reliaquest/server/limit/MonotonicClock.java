@@ -0,0 +1,12 @@
+package com.reliaquest.server.limit;
+
+/** Nanosecond time source that never goes backwards; only differences between readings are meaningful. */
+@FunctionalInterface
+public interface MonotonicClock {
+
+    long nanoTime();
+
+    static MonotonicClock system() {
+        return System::nanoTime;
+    }
+}
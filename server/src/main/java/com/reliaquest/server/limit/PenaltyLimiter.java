@@ -0,0 +1,52 @@
+package com.reliaquest.server.limit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits {@code limit} requests, then rejects everything until {@code penalty} has passed since the last admitted
+ * one. The request that ends the penalty starts a new window without being counted. This is the accounting the mock
+ * server has always used.
+ *
+ * <p>State per stripe: the time of the last admitted request in microseconds, and the count in the low 16 bits.
+ * Rejections only read it.
+ */
+public class PenaltyLimiter extends StripedLimiter {
+
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int limit;
+    private final long penaltyMicros;
+
+    public PenaltyLimiter(int limit, Duration penalty, int stripes, MonotonicClock clock) {
+        super(stripes, clock);
+        if (limit < 1 || limit > COUNT_MASK) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + COUNT_MASK);
+        }
+        this.limit = limit;
+        this.penaltyMicros = TimeUnit.NANOSECONDS.toMicros(penalty.toNanos());
+    }
+
+    @Override
+    public long tryAcquire(int stripe) {
+        long now = TimeUnit.NANOSECONDS.toMicros(now());
+        while (true) {
+            long current = get(stripe);
+            long count = current & COUNT_MASK;
+            long update;
+            if (count >= limit) {
+                long reopensAt = (current >>> COUNT_BITS) + penaltyMicros;
+                if (now < reopensAt) {
+                    return TimeUnit.MICROSECONDS.toNanos(reopensAt - now);
+                }
+                update = now << COUNT_BITS;
+            } else {
+                update = (now << COUNT_BITS) | (count + 1);
+            }
+            if (compareAndSet(stripe, current, update)) {
+                return 0;
+            }
+        }
+    }
+}
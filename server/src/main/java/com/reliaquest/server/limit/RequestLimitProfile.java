@@ -0,0 +1,13 @@
+package com.reliaquest.server.limit;
+
+/** How the mock server limits requests; see {@code mock.request-limit.*} for each profile's settings. */
+public enum RequestLimitProfile {
+    /** {@link PenaltyLimiter} with a limit of 5 to 9 requests and a 30 to 89 second penalty, drawn from a seed. */
+    RANDOM,
+    /** {@link PenaltyLimiter} with a configured limit and penalty. */
+    PENALTY,
+    /** {@link TokenBucketLimiter} with a configured rate and burst. */
+    TOKEN_BUCKET,
+    /** {@link SlidingWindowLimiter} with a configured limit per window. */
+    SLIDING_WINDOW
+}
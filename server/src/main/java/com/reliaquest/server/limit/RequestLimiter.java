@@ -0,0 +1,13 @@
+package com.reliaquest.server.limit;
+
+/**
+ * Decides whether a request may proceed. Budgets are kept per stripe: a limiter keyed per client maps each client key
+ * to a stripe, so clients sharing a stripe share a budget; a global limiter uses stripe 0 only.
+ */
+public interface RequestLimiter {
+
+    /** Takes a permit from {@code stripe}: 0 when the request is admitted, otherwise nanoseconds until one would be. */
+    long tryAcquire(int stripe);
+
+    int stripeOf(String clientKey);
+}
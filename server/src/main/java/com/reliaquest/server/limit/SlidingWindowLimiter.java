@@ -0,0 +1,73 @@
+package com.reliaquest.server.limit;
+
+import java.time.Duration;
+
+/**
+ * Admits up to {@code limit} requests per sliding {@code window}, estimated from the current and previous fixed
+ * windows: the previous count weighs in by how much of it the sliding window still overlaps.
+ *
+ * <p>State per stripe: the low 24 bits of the current window's index, then the current and previous counts in 20
+ * bits each. Rejections only read it.
+ */
+public class SlidingWindowLimiter extends StripedLimiter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long INDEX_MASK = (1L << 24) - 1;
+    private static final Duration MAX_WINDOW = Duration.ofHours(1);
+
+    private final long limit;
+    private final long window;
+
+    public SlidingWindowLimiter(int limit, Duration window, int stripes, MonotonicClock clock) {
+        super(stripes, clock);
+        if (limit < 1 || limit >= COUNT_MASK) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + (COUNT_MASK - 1));
+        }
+        if (window.isNegative() || window.isZero() || window.compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Window must be positive and at most " + MAX_WINDOW);
+        }
+        this.limit = limit;
+        this.window = window.toNanos();
+    }
+
+    @Override
+    public long tryAcquire(int stripe) {
+        long now = now();
+        long index = (now / window) & INDEX_MASK;
+        long elapsed = now % window;
+        while (true) {
+            long state = get(stripe);
+            long storedIndex = state >>> (2 * COUNT_BITS);
+            long stored = (state >>> COUNT_BITS) & COUNT_MASK;
+            long current;
+            long previous;
+            if (storedIndex == index) {
+                current = stored;
+                previous = state & COUNT_MASK;
+            } else if (storedIndex == ((index - 1) & INDEX_MASK)) {
+                current = 0;
+                previous = stored;
+            } else {
+                current = 0;
+                previous = 0;
+            }
+            // previous * (window - elapsed) / window + current >= limit, kept in integers
+            if (previous * (window - elapsed) + current * window >= limit * window) {
+                return retryAfter(current, previous, elapsed);
+            }
+            long update = (index << (2 * COUNT_BITS)) | ((current + 1) << COUNT_BITS) | previous;
+            if (compareAndSet(stripe, state, update)) {
+                return 0;
+            }
+        }
+    }
+
+    /** When the estimate next drops below the limit, assuming no other request is admitted meanwhile. */
+    private long retryAfter(long current, long previous, long elapsed) {
+        if (current < limit) {
+            return Math.max(1, window - elapsed - (limit - current) * window / previous + 1);
+        }
+        return window - elapsed + Math.max(0, window - limit * window / current + 1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reliaquest.server.limit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Base for limiters whose whole per-stripe state fits in one {@code long}, updated with compare-and-set: no locks, and
+ * nothing allocated per request. Stripes are a cache line apart so clients on different stripes never contend.
+ */
+abstract class StripedLimiter implements RequestLimiter {
+
+    /** Longs per 64-byte cache line. */
+    private static final int SPACING = 8;
+
+    private final AtomicLongArray state;
+    private final int mask;
+    private final MonotonicClock clock;
+    private final long origin;
+
+    StripedLimiter(int stripes, MonotonicClock clock) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.state = new AtomicLongArray(size * SPACING);
+        this.mask = size - 1;
+        this.clock = clock;
+        this.origin = clock.nanoTime();
+    }
+
+    @Override
+    public int stripeOf(String clientKey) {
+        int hash = clientKey.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /** Nanoseconds since this limiter was created. */
+    final long now() {
+        return clock.nanoTime() - origin;
+    }
+
+    final long get(int stripe) {
+        return state.get(stripe * SPACING);
+    }
+
+    final boolean compareAndSet(int stripe, long expected, long update) {
+        return state.compareAndSet(stripe * SPACING, expected, update);
+    }
+}
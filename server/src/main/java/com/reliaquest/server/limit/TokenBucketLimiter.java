@@ -0,0 +1,38 @@
+package com.reliaquest.server.limit;
+
+/**
+ * Token bucket refilled at {@code rate} permits per second and holding up to {@code burst}, in its GCRA form: the
+ * state per stripe is just the theoretical arrival time of the next request. A request is admitted when that time is
+ * no more than the burst allowance ahead of now, and pushes it one emission interval further. Rejections only read
+ * the state.
+ */
+public class TokenBucketLimiter extends StripedLimiter {
+
+    private final long interval;
+    private final long tolerance;
+
+    public TokenBucketLimiter(double rate, int burst, int stripes, MonotonicClock clock) {
+        super(stripes, clock);
+        if (!(rate > 0) || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.interval = Math.max(1, Math.round(1_000_000_000 / rate));
+        this.tolerance = Math.multiplyExact(interval, burst - 1L);
+    }
+
+    @Override
+    public long tryAcquire(int stripe) {
+        long now = now();
+        while (true) {
+            long arrival = get(stripe);
+            long start = Math.max(arrival, now);
+            long wait = start - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (compareAndSet(stripe, arrival, start + interval)) {
+                return 0;
+            }
+        }
+    }
+}
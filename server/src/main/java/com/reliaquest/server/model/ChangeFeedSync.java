@@ -0,0 +1,7 @@
+package com.reliaquest.server.model;
+
+/**
+ * First event of every change feed subscription. When {@code resumed} is false the subscriber's position could not be
+ * resumed and it must refetch the roster; changes after {@code sequence} follow either way.
+ */
+public record ChangeFeedSync(long sequence, boolean resumed) {}
@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete on the mock roster. {@code sequence} is the roster version the change produced, so changes are
+ * numbered without gaps in the order they were applied.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
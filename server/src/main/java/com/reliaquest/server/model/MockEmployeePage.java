@@ -0,0 +1,11 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of a cursor-paged listing. {@code next} is absent on the last page. The first page also lists the cursor
+ * of every later page in {@code cursors}, so a client can fetch them concurrently.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeePage(List<MockEmployee> employees, int total, String next, List<String> cursors) {}
@@ -0,0 +1,92 @@
+package com.reliaquest.server.persist;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary form of a {@link MockEmployee} shared by snapshots and the journal: a presence byte, the id as two longs,
+ * salary and age as ints, then name, title and email as length-prefixed UTF-8. Absent values take no space beyond the
+ * presence bit or a {@code -1} length.
+ */
+final class EmployeeRecords {
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_SALARY = 1 << 1;
+    private static final int HAS_AGE = 1 << 2;
+
+    private EmployeeRecords() {}
+
+    static byte[] encode(MockEmployee employee) {
+        byte[] name = utf8(employee.getName());
+        byte[] title = utf8(employee.getTitle());
+        byte[] email = utf8(employee.getEmail());
+        int size = Byte.BYTES + 2 * Long.BYTES + 2 * Integer.BYTES + length(name) + length(title) + length(email);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        int presence = (employee.getId() != null ? HAS_ID : 0)
+                | (employee.getSalary() != null ? HAS_SALARY : 0)
+                | (employee.getAge() != null ? HAS_AGE : 0);
+        buffer.put((byte) presence);
+        buffer.putLong(employee.getId() != null ? employee.getId().getMostSignificantBits() : 0);
+        buffer.putLong(employee.getId() != null ? employee.getId().getLeastSignificantBits() : 0);
+        buffer.putInt(employee.getSalary() != null ? employee.getSalary() : 0);
+        buffer.putInt(employee.getAge() != null ? employee.getAge() : 0);
+        put(buffer, name);
+        put(buffer, title);
+        put(buffer, email);
+        return buffer.array();
+    }
+
+    /** Reads one employee at the buffer's position and advances past it. */
+    static MockEmployee decode(ByteBuffer buffer) {
+        int presence = buffer.get();
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        String name = string(buffer);
+        String title = string(buffer);
+        String email = string(buffer);
+        return new MockEmployee(
+                (presence & HAS_ID) != 0 ? new UUID(most, least) : null,
+                name,
+                (presence & HAS_SALARY) != 0 ? salary : null,
+                (presence & HAS_AGE) != 0 ? age : null,
+                title,
+                email);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void put(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            String value = new String(
+                    buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,213 @@
+package com.reliaquest.server.persist;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only, memory-mapped log of roster changes. Each file is named after the sequence its records follow, and is
+ * mapped a segment at a time; when a record does not fit, the next segment is mapped from where it starts, so records
+ * are contiguous and the zero-filled tail marks the end.
+ *
+ * <p>A record is its payload length, a CRC32C of everything after the checksum, the change's sequence and type, then
+ * the employee. Replay stops at the first record that is torn or does not continue the sequence.
+ *
+ * <p>Writes reach the page cache when {@link #append} returns, so they survive the process dying; with {@code fsync}
+ * each record is also forced to disk before the change is applied.
+ */
+@Slf4j
+public class MockEmployeeJournal implements Closeable {
+
+    private static final Pattern FILE_NAME = Pattern.compile("journal-(\\d+)\\.log");
+    private static final int HEADER = 2 * Integer.BYTES + Long.BYTES + Byte.BYTES;
+    private static final MockEmployeeChange.Type[] TYPES = MockEmployeeChange.Type.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final CRC32C checksum = new CRC32C();
+
+    private Path file;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private long lastSequence;
+
+    private MockEmployeeJournal(Path directory, int segmentSize, boolean fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+    }
+
+    /** Starts a new journal file for the changes after {@code lastSequence}. Older files stay until {@link #roll}. */
+    public static MockEmployeeJournal open(Path directory, long lastSequence, int segmentSize, boolean fsync)
+            throws IOException {
+        MockEmployeeJournal journal = new MockEmployeeJournal(directory, segmentSize, fsync);
+        journal.start(lastSequence);
+        return journal;
+    }
+
+    /**
+     * The changes after {@code afterSequence} in every journal file in {@code directory}, in sequence order, up to the
+     * first torn record or gap.
+     */
+    public static List<MockEmployeeChange> replay(Path directory, long afterSequence) throws IOException {
+        List<MockEmployeeChange> changes = new ArrayList<>();
+        long applied = afterSequence;
+        for (Path file : files(directory)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Journal file too large to replay: " + file);
+                }
+                ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                CRC32C checksum = new CRC32C();
+                while (records.remaining() >= HEADER) {
+                    int start = records.position();
+                    int length = records.getInt();
+                    if (length <= 0 || records.remaining() < HEADER - Integer.BYTES + length) {
+                        break;
+                    }
+                    int expected = records.getInt();
+                    checksum.reset();
+                    checksum.update(records.slice(start + 2 * Integer.BYTES, HEADER - 2 * Integer.BYTES + length));
+                    if ((int) checksum.getValue() != expected) {
+                        log.warn("Torn journal record at {} in {}, ignoring the rest of the file", start, file);
+                        break;
+                    }
+                    long sequence = records.getLong();
+                    MockEmployeeChange.Type type = TYPES[records.get()];
+                    ByteBuffer payload = records.slice(records.position(), length);
+                    records.position(records.position() + length);
+                    if (sequence <= applied) {
+                        continue;
+                    }
+                    if (sequence != applied + 1) {
+                        log.warn("Journal {} skips from sequence {} to {}, ignoring the rest", file, applied, sequence);
+                        return changes;
+                    }
+                    changes.add(new MockEmployeeChange(sequence, type, EmployeeRecords.decode(payload)));
+                    applied = sequence;
+                }
+            }
+        }
+        return changes;
+    }
+
+    public void append(MockEmployeeChange change) {
+        byte[] payload = EmployeeRecords.encode(change.employee());
+        int size = HEADER + payload.length;
+        lock.lock();
+        try {
+            if (segment.remaining() < size) {
+                segmentStart += segment.position();
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, Math.max(segmentSize, size));
+            }
+            int start = segment.position();
+            segment.position(start + 2 * Integer.BYTES);
+            segment.putLong(change.sequence());
+            segment.put((byte) change.type().ordinal());
+            segment.put(payload);
+            checksum.reset();
+            checksum.update(segment.slice(start + 2 * Integer.BYTES, size - 2 * Integer.BYTES));
+            segment.putInt(start + Integer.BYTES, (int) checksum.getValue());
+            segment.putInt(start, payload.length);
+            if (fsync) {
+                segment.force(start, size);
+            }
+            lastSequence = change.sequence();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to journal " + file, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts a new file; the changes in earlier files all precede it. A snapshot taken after rolling covers them, and
+     * {@link #deleteRolled} can then remove them.
+     */
+    public void roll() throws IOException {
+        lock.lock();
+        try {
+            finish();
+            start(lastSequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Deletes every journal file but the current one. */
+    public void deleteRolled() throws IOException {
+        Path current;
+        lock.lock();
+        try {
+            current = file;
+        } finally {
+            lock.unlock();
+        }
+        for (Path rolled : files(directory)) {
+            if (!rolled.equals(current)) {
+                Files.deleteIfExists(rolled);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            finish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start(long afterSequence) throws IOException {
+        lastSequence = afterSequence;
+        file = directory.resolve("journal-" + afterSequence + ".log");
+        channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segmentStart = 0;
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void finish() throws IOException {
+        segment.force();
+        channel.close();
+    }
+
+    /** Journal files in the order their changes were written. */
+    private static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted((left, right) -> Long.compare(sequenceOf(left), sequenceOf(right)))
+                    .toList();
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.server.persist;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps a {@link MockEmployeeStore} on disk: every change goes to a {@link MockEmployeeJournal} before it is applied,
+ * and a {@link MockEmployeeSnapshots snapshot} of the whole roster is taken periodically, after which the journal files
+ * it covers are deleted. A restart loads the newest snapshot and replays the journal written since.
+ */
+@Slf4j
+public class MockEmployeePersistence implements Closeable {
+
+    private final Path directory;
+    private final Duration snapshotInterval;
+    private final int journalSegmentSize;
+    private final boolean fsync;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    private MockEmployeeStore store;
+    private MockEmployeeJournal journal;
+    private ScheduledExecutorService scheduler;
+    private long snapshotVersion;
+
+    public MockEmployeePersistence(Path directory, Duration snapshotInterval, int journalSegmentSize, boolean fsync) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.journalSegmentSize = journalSegmentSize;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Recovers the store from disk, or builds one from {@code generate} when there is nothing to recover, and starts
+     * journaling its changes.
+     */
+    public MockEmployeeStore open(Supplier<? extends Collection<MockEmployee>> generate, int retainedChanges)
+            throws IOException {
+        Files.createDirectories(directory);
+        final var started = System.nanoTime();
+        Optional<MockEmployeeSnapshots.Recovered> recovered = MockEmployeeSnapshots.readLatest(directory);
+        if (recovered.isPresent()) {
+            final var snapshot = recovered.get();
+            final var changes = MockEmployeeJournal.replay(directory, snapshot.version());
+            final var version = changes.isEmpty() ? snapshot.version() : changes.getLast().sequence();
+            store = new MockEmployeeStore(replay(snapshot.employees(), changes), retainedChanges, version);
+            snapshotVersion = snapshot.version();
+            if (version != snapshotVersion) {
+                // the new journal starts after the replayed changes, so the files holding them are only safe to
+                // delete once a snapshot covers them
+                MockEmployeeSnapshots.write(directory, store.versionedSnapshot());
+                snapshotVersion = version;
+            }
+            log.info(
+                    "Recovered {} employees at version {} from {} ({} journaled changes) in {} ms",
+                    store.size(),
+                    version,
+                    directory,
+                    changes.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } else {
+            final var stale = MockEmployeeJournal.replay(directory, 0);
+            if (!stale.isEmpty()) {
+                log.warn("Discarding {} journaled changes in {} without a snapshot", stale.size(), directory);
+            }
+            store = new MockEmployeeStore(generate.get(), retainedChanges);
+            final var initial = store.versionedSnapshot();
+            MockEmployeeSnapshots.write(directory, initial);
+            snapshotVersion = initial.version();
+        }
+        journal = MockEmployeeJournal.open(directory, store.changes().latest(), journalSegmentSize, fsync);
+        journal.deleteRolled();
+        store.journal(journal::append);
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("mock-roster-snapshot")
+                .daemon()
+                .factory());
+        scheduler.scheduleWithFixedDelay(
+                this::snapshotQuietly, snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    /**
+     * Writes a snapshot if the roster changed since the last one. The journal is rolled under the store's write lock
+     * the snapshot is taken under, so the files deleted afterwards hold exactly the changes up to its version.
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            if (store == null || store.changes().latest() == snapshotVersion) {
+                return;
+            }
+            final var started = System.nanoTime();
+            final var snapshot = store.versionedSnapshot(this::rollJournal);
+            MockEmployeeSnapshots.write(directory, snapshot);
+            journal.deleteRolled();
+            snapshotVersion = snapshot.version();
+            log.debug(
+                    "Wrote snapshot of {} employees at version {} in {} ms",
+                    snapshot.employees().size(),
+                    snapshot.version(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        snapshot();
+        journal.close();
+    }
+
+    private void rollJournal() {
+        try {
+            journal.roll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll the roster journal", e);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Roster snapshot failed, the journal still holds every change", e);
+        }
+    }
+
+    private static Collection<MockEmployee> replay(List<MockEmployee> employees, List<MockEmployeeChange> changes) {
+        if (changes.isEmpty()) {
+            return employees;
+        }
+        Map<UUID, MockEmployee> byId = new LinkedHashMap<>(employees.size() + changes.size());
+        for (MockEmployee employee : employees) {
+            byId.put(employee.getId(), employee);
+        }
+        for (MockEmployeeChange change : changes) {
+            switch (change.type()) {
+                case CREATED -> byId.put(change.employee().getId(), change.employee());
+                case DELETED -> byId.remove(change.employee().getId());
+            }
+        }
+        return byId.values();
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.server.persist;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compact snapshot files of the whole roster, named by the version they hold. A snapshot is written to a temporary
+ * file, forced to disk and renamed into place, so a crash never leaves a half-written one under a snapshot name.
+ *
+ * <p>Layout: magic, format, version and count, then every employee as a length-prefixed record, then a CRC32C of all
+ * of that. Reading maps the file and decodes it in one pass.
+ */
+@Slf4j
+public final class MockEmployeeSnapshots {
+
+    private static final Pattern FILE_NAME = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final int MAGIC = 0x4D4B4553;
+    private static final int FORMAT = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private MockEmployeeSnapshots() {}
+
+    public record Recovered(long version, List<MockEmployee> employees) {}
+
+    /** Writes {@code snapshot} and then deletes every older snapshot. */
+    public static void write(Path directory, MockEmployeeStore.Snapshot snapshot) throws IOException {
+        Path temporary = directory.resolve("snapshot-" + snapshot.version() + ".tmp");
+        CRC32C checksum = new CRC32C();
+        try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(FORMAT).putLong(snapshot.version()).putInt(snapshot.employees().size());
+            for (MockEmployee employee : snapshot.employees()) {
+                byte[] record = EmployeeRecords.encode(employee);
+                if (buffer.remaining() < Integer.BYTES + record.length) {
+                    flush(channel, buffer, checksum);
+                    if (buffer.remaining() < Integer.BYTES + record.length) {
+                        buffer = ByteBuffer.allocate(Integer.BYTES + record.length);
+                    }
+                }
+                buffer.putInt(record.length).put(record);
+            }
+            flush(channel, buffer, checksum);
+            buffer.putLong(checksum.getValue()).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Path target = directory.resolve("snapshot-" + snapshot.version() + ".bin");
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (Path older : files(directory)) {
+            if (versionOf(older) < snapshot.version()) {
+                Files.deleteIfExists(older);
+            }
+        }
+    }
+
+    /** The newest snapshot in {@code directory} that reads back intact, falling back to older ones. */
+    public static Optional<Recovered> readLatest(Path directory) throws IOException {
+        List<Path> snapshots = new ArrayList<>(files(directory));
+        snapshots.sort(Comparator.comparingLong(MockEmployeeSnapshots::versionOf).reversed());
+        for (Path snapshot : snapshots) {
+            try {
+                return Optional.of(read(snapshot));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable snapshot {}: {}", snapshot, e.toString());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Recovered read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to map: " + channel.size() + " bytes");
+            }
+            ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int checked = content.limit() - Long.BYTES;
+            CRC32C checksum = new CRC32C();
+            checksum.update(content.slice(0, checked));
+            if (checksum.getValue() != content.getLong(checked)) {
+                throw new IOException("Checksum mismatch");
+            }
+            if (content.getInt() != MAGIC || content.getInt() != FORMAT) {
+                throw new IOException("Not a snapshot in format " + FORMAT);
+            }
+            long version = content.getLong();
+            int count = content.getInt();
+            List<MockEmployee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = content.getInt();
+                ByteBuffer record = content.slice(content.position(), length);
+                content.position(content.position() + length);
+                employees.add(EmployeeRecords.decode(record));
+            }
+            return new Recovered(version, employees);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated snapshot", e);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .toList();
+        }
+    }
+
+    private static long versionOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+}
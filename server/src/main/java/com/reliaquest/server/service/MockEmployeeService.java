@@ -1,14 +1,20 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.exception.InvalidPageRequestException;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import com.reliaquest.server.store.MockEmployeeChangeLog;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.PageCursor;
+import com.reliaquest.server.store.PinnedSnapshots;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.IntStream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +26,90 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 10_000;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployees;
+
+    private final PinnedSnapshots pinnedSnapshots;
+
+    /** Distinguishes this server run, so a data version handed out by an earlier run never matches. */
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /** Immutable snapshot; later creates and deletes do not change it. */
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployees.snapshot();
+    }
+
+    /** Immutable snapshot together with the store version it was taken at. */
+    public MockEmployeeStore.Snapshot getVersionedEmployees() {
+        return mockEmployees.versionedSnapshot();
+    }
+
+    /** Changes with every create and delete, and between server runs; suitable for a strong ETag. */
+    public String dataVersion(MockEmployeeStore.Snapshot snapshot) {
+        return epoch + "-" + snapshot.version();
+    }
+
+    /** Recent creates and deletes, in the order they were applied. */
+    public MockEmployeeChangeLog changes() {
+        return mockEmployees.changes();
+    }
+
+    /** Id of the change feed event for {@code sequence}; like a data version, it is only meaningful to this run. */
+    public String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /** The sequence behind {@code eventId}, or empty when it is malformed or was handed out by another server run. */
+    public OptionalLong sequenceOf(String eventId) {
+        final var prefix = epoch + "-";
+        if (eventId == null || !eventId.startsWith(prefix)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(eventId.substring(prefix.length())));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /** Starts a paged listing over {@code snapshot}. */
+    public MockEmployeePage firstPage(MockEmployeeStore.Snapshot snapshot, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        pinnedSnapshots.pin(snapshot);
+        final var total = snapshot.employees().size();
+        final var cursors = IntStream.iterate(size, offset -> offset < total, offset -> offset + size)
+                .mapToObj(offset -> new PageCursor(snapshot.version(), offset, size).encode())
+                .toList();
+        return page(snapshot, 0, size, cursors);
+    }
+
+    /** The page at {@code cursor}, or empty once the snapshot it points into is no longer pinned. */
+    public Optional<MockEmployeePage> page(@NonNull String cursor) {
+        final var position = PageCursor.decode(cursor);
+        if (position.size() > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+        return pinnedSnapshots
+                .get(position.version())
+                .map(snapshot -> page(snapshot, position.offset(), position.size(), null));
+    }
+
+    private static MockEmployeePage page(
+            MockEmployeeStore.Snapshot snapshot, int offset, int size, List<String> cursors) {
+        final var employees = snapshot.employees();
+        final var from = Math.min(offset, employees.size());
+        final var to = (int) Math.min((long) from + size, employees.size());
+        final var next = to < employees.size() ? new PageCursor(snapshot.version(), to, size).encode() : null;
+        return new MockEmployeePage(employees.subList(from, to), employees.size(), next, cursors);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployees.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -43,16 +123,8 @@ public class MockEmployeeService {
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        final var mockEmployee = mockEmployees.removeFirstByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
@@ -0,0 +1,99 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The most recent changes to a {@link MockEmployeeStore}, in sequence order. The store appends under its own write
+ * lock, so the log order is the order the changes were applied in. Only the last {@code retained} changes are kept; a
+ * reader whose position has fallen out of that window has to start over from a fresh listing.
+ */
+public class MockEmployeeChangeLog {
+
+    private final int retained;
+    private final ArrayDeque<MockEmployeeChange> changes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long latest;
+
+    MockEmployeeChangeLog(int retained, long initialSequence) {
+        if (retained < 1) {
+            throw new IllegalArgumentException("Retained changes must be positive");
+        }
+        this.retained = retained;
+        this.changes = new ArrayDeque<>(Math.min(retained, 1024));
+        this.latest = initialSequence;
+    }
+
+    void append(MockEmployeeChange change) {
+        lock.lock();
+        try {
+            if (change.sequence() != latest + 1) {
+                throw new IllegalStateException("Change " + change.sequence() + " does not follow " + latest);
+            }
+            if (changes.size() == retained) {
+                changes.pollFirst();
+            }
+            changes.addLast(change);
+            latest = change.sequence();
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Sequence of the last change, or the store's initial version before any change. */
+    public long latest() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Whether every change after {@code sequence} is still retained. */
+    public boolean covers(long sequence) {
+        lock.lock();
+        try {
+            return sequence <= latest && sequence >= latest - changes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The changes after {@code sequence}, waiting up to {@code timeout} for the first one; an empty list when none
+     * arrived in time. Empty when {@code sequence} is no longer covered.
+     */
+    public Optional<List<MockEmployeeChange>> await(long sequence, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = timeout.toNanos();
+            while (latest == sequence && nanos > 0) {
+                nanos = appended.awaitNanos(nanos);
+            }
+            if (sequence > latest || sequence < latest - changes.size()) {
+                return Optional.empty();
+            }
+            int count = (int) (latest - sequence);
+            List<MockEmployeeChange> after = new ArrayList<>(count);
+            Iterator<MockEmployeeChange> newestFirst = changes.descendingIterator();
+            for (int i = 0; i < count; i++) {
+                after.add(newestFirst.next());
+            }
+            Collections.reverse(after);
+            return Optional.of(after);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
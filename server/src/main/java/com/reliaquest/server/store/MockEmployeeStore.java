@@ -0,0 +1,272 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * The mock server's roster. Lookups by id go through a concurrent hash index; deletes by name go through a
+ * case-insensitive name index that keeps insertion order, so the first match is still the one the old list scan found.
+ *
+ * <p>Listings are immutable snapshots published through a volatile reference: readers never lock and never see a
+ * write half-applied, while writers serialize on a lock. Appends share the snapshot's backing array (older snapshots
+ * only read up to their own size), so creates are amortized O(1); a delete copies the array once.
+ *
+ * <p>A {@link #lazy} store loads its employees on first access; until then callers of any method wait for that load.
+ *
+ * <p>Every create and delete is also appended to the store's {@link #changes() change log}, numbered by the version it
+ * produced. A {@link #journal journal}, when set, is handed each change once it is validated and before it is applied,
+ * so a change the journal fails to record is not applied either, and a rejected one is never journaled.
+ */
+public class MockEmployeeStore {
+
+    public static final int DEFAULT_RETAINED_CHANGES = 10_000;
+
+    private static final long INITIAL_VERSION = 1;
+
+    private final MockEmployeeChangeLog changes;
+    private final ConcurrentHashMap<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    private final Map<String, ArrayDeque<MockEmployee>> byName = new HashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Listing listing;
+    private Supplier<? extends Collection<MockEmployee>> pending;
+    private Consumer<MockEmployeeChange> journal = change -> {};
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees) {
+        this(employees, DEFAULT_RETAINED_CHANGES);
+    }
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees, int retainedChanges) {
+        this(employees, retainedChanges, INITIAL_VERSION);
+    }
+
+    /** A store that continues from {@code version}, such as one recovered from disk. */
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> employees, int retainedChanges, long version) {
+        changes = new MockEmployeeChangeLog(retainedChanges, version);
+        load(employees, version);
+    }
+
+    private MockEmployeeStore(Supplier<? extends Collection<MockEmployee>> employees, int retainedChanges) {
+        changes = new MockEmployeeChangeLog(retainedChanges, INITIAL_VERSION);
+        pending = employees;
+    }
+
+    public static MockEmployeeStore lazy(@NonNull Supplier<? extends Collection<MockEmployee>> employees) {
+        return lazy(employees, DEFAULT_RETAINED_CHANGES);
+    }
+
+    public static MockEmployeeStore lazy(
+            @NonNull Supplier<? extends Collection<MockEmployee>> employees, int retainedChanges) {
+        return new MockEmployeeStore(employees, retainedChanges);
+    }
+
+    /** Receives every create and delete, under the store's write lock and before the change is applied. */
+    public void journal(@NonNull Consumer<MockEmployeeChange> journal) {
+        writeLock.lock();
+        try {
+            this.journal = journal;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Recent creates and deletes; the sequence of the latest one is the version of the current listing. */
+    public MockEmployeeChangeLog changes() {
+        return changes;
+    }
+
+    /** Point-in-time, unmodifiable view of every employee in insertion order. */
+    public List<MockEmployee> snapshot() {
+        return listing();
+    }
+
+    /** Like {@link #snapshot()}, with the version it was published as; every create or delete bumps the version. */
+    public Snapshot versionedSnapshot() {
+        Listing current = listing();
+        return new Snapshot(current.version, current);
+    }
+
+    /**
+     * Runs {@code action} under the write lock and returns the snapshot as of then: no change can be journaled or
+     * applied between the two, so a journal rolled by {@code action} holds exactly the changes in the snapshot.
+     */
+    public Snapshot versionedSnapshot(@NonNull Runnable action) {
+        listing();
+        writeLock.lock();
+        try {
+            action.run();
+            return new Snapshot(listing.version, listing);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return listing().size();
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        listing();
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        listing();
+        writeLock.lock();
+        try {
+            if (employee.getId() != null && byId.containsKey(employee.getId())) {
+                throw new IllegalArgumentException("Duplicate employee id " + employee.getId());
+            }
+            Listing current = listing;
+            MockEmployeeChange change =
+                    new MockEmployeeChange(current.version + 1, MockEmployeeChange.Type.CREATED, employee);
+            journal.accept(change);
+            index(employee);
+            MockEmployee[] slots = current.slots;
+            if (current.size == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length + (slots.length >> 1));
+            }
+            slots[current.size] = employee;
+            listing = new Listing(slots, current.size + 1, change.sequence());
+            changes.append(change);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes the earliest-added employee whose name equals {@code name} ignoring case. */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        listing();
+        writeLock.lock();
+        try {
+            String key = fold(name);
+            ArrayDeque<MockEmployee> matches = byName.get(key);
+            if (matches == null) {
+                return Optional.empty();
+            }
+            MockEmployee employee = matches.peekFirst();
+            Listing current = listing;
+            Listing next = current.without(employee);
+            MockEmployeeChange change = next == current
+                    ? null
+                    : new MockEmployeeChange(next.version, MockEmployeeChange.Type.DELETED, employee);
+            if (change != null) {
+                journal.accept(change);
+            }
+            matches.pollFirst();
+            if (matches.isEmpty()) {
+                byName.remove(key);
+            }
+            if (employee.getId() != null) {
+                byId.remove(employee.getId(), employee);
+            }
+            listing = next;
+            if (change != null) {
+                changes.append(change);
+            }
+            return Optional.of(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** The current listing, loading a lazy store first. Indexes are complete once this returns. */
+    private Listing listing() {
+        Listing current = listing;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (listing == null) {
+                load(pending.get(), INITIAL_VERSION);
+                pending = null;
+            }
+            return listing;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void load(Collection<MockEmployee> employees, long version) {
+        MockEmployee[] slots = new MockEmployee[Math.max(16, employees.size())];
+        int size = 0;
+        for (MockEmployee employee : employees) {
+            index(employee);
+            slots[size++] = employee;
+        }
+        listing = new Listing(slots, size, version);
+    }
+
+    private void index(MockEmployee employee) {
+        if (employee.getId() != null && byId.putIfAbsent(employee.getId(), employee) != null) {
+            throw new IllegalArgumentException("Duplicate employee id " + employee.getId());
+        }
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new ArrayDeque<>())
+                    .addLast(employee);
+        }
+    }
+
+    /** Folds each code point the way {@link String#equalsIgnoreCase} compares them. */
+    private static String fold(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint -> folded.appendCodePoint(
+                Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    private static final class Listing extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final MockEmployee[] slots;
+        private final int size;
+        private final long version;
+
+        private Listing(MockEmployee[] slots, int size, long version) {
+            this.slots = slots;
+            this.size = size;
+            this.version = version;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            Objects.checkIndex(index, size);
+            return slots[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /** Copies into a fresh array, so snapshots sharing the current one are unaffected. */
+        private Listing without(MockEmployee employee) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (slots[i] == employee) {
+                    MockEmployee[] copy = new MockEmployee[Math.max(16, slots.length)];
+                    System.arraycopy(slots, 0, copy, 0, i);
+                    System.arraycopy(slots, i + 1, copy, i, size - i - 1);
+                    return new Listing(copy, size - 1, version + 1);
+                }
+            }
+            return this;
+        }
+    }
+}
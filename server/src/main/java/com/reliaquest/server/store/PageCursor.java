@@ -0,0 +1,36 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.exception.InvalidPageRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a paged listing: a page of {@code size} employees starting at {@code offset} in snapshot
+ * {@code version}. Clients only ever see the encoded form, which is URL-safe.
+ */
+public record PageCursor(long version, int offset, int size) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString((version + ":" + offset + ":" + size).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /** @throws InvalidPageRequestException if {@code cursor} was not produced by {@link #encode()} */
+    public static PageCursor decode(String cursor) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (parts.length == 3) {
+                PageCursor decoded = new PageCursor(
+                        Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                if (decoded.offset >= 0 && decoded.size > 0) {
+                    return decoded;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // malformed base64 or number, reported below
+        }
+        throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.server.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshots that paged listings are reading from, kept by version so every page of a listing comes from the same
+ * roster even while it changes. A snapshot stays pinned until it has not been read for {@code ttl}; beyond
+ * {@code capacity} pinned versions the least recently read one is dropped.
+ */
+public class PinnedSnapshots {
+
+    private final Duration ttl;
+    private final int capacity;
+    private final Clock clock;
+    private final Map<Long, Pinned> pinned = new ConcurrentHashMap<>();
+
+    public PinnedSnapshots(Duration ttl, int capacity, Clock clock) {
+        this.ttl = ttl;
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    public void pin(MockEmployeeStore.Snapshot snapshot) {
+        Instant now = clock.instant();
+        pinned.values().removeIf(entry -> entry.isExpired(now));
+        pinned.put(snapshot.version(), new Pinned(snapshot, now.plus(ttl)));
+        while (pinned.size() > capacity) {
+            pinned.values().stream()
+                    .min(Comparator.comparing(Pinned::expiresAt))
+                    .ifPresent(oldest -> pinned.remove(oldest.snapshot().version(), oldest));
+        }
+    }
+
+    /** The pinned snapshot for {@code version}, extending its lease; empty once it has expired or been evicted. */
+    public Optional<MockEmployeeStore.Snapshot> get(long version) {
+        Instant now = clock.instant();
+        Pinned entry = pinned.computeIfPresent(version, (ignored, current) ->
+                current.isExpired(now) ? null : new Pinned(current.snapshot(), now.plus(ttl)));
+        return Optional.ofNullable(entry).map(Pinned::snapshot);
+    }
+
+    private record Pinned(MockEmployeeStore.Snapshot snapshot, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
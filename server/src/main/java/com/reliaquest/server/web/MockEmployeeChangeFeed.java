@@ -0,0 +1,87 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.ChangeFeedSync;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams roster changes to server-sent event subscribers. Each subscription first gets a {@code sync} event, then
+ * every change after its position as a {@code created} or {@code deleted} event whose id is the change's sequence.
+ * A reconnect that sends its {@code Last-Event-ID} resumes right after that change while it is still retained;
+ * otherwise the {@code sync} event tells the subscriber to refetch the roster. Idle subscriptions get a
+ * {@code heartbeat}, which is also how a closed connection is noticed.
+ *
+ * <p>Every subscription is served by its own virtual thread blocking on the change log.
+ */
+@Slf4j
+@Component
+public class MockEmployeeChangeFeed {
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Duration heartbeat;
+    private final ExecutorService subscriptions = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MockEmployeeChangeFeed(
+            MockEmployeeService mockEmployeeService, @Value("${mock.changes.heartbeat:15s}") Duration heartbeat) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.heartbeat = heartbeat;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = new SseEmitter(0L);
+        subscriptions.execute(() -> stream(emitter, lastEventId));
+        return emitter;
+    }
+
+    private void stream(SseEmitter emitter, String lastEventId) {
+        final var changes = mockEmployeeService.changes();
+        try {
+            final var lastSeen = mockEmployeeService.sequenceOf(lastEventId);
+            final var resumed = lastSeen.isPresent() && changes.covers(lastSeen.getAsLong());
+            var position = resumed ? lastSeen.getAsLong() : changes.latest();
+            log.debug("Change feed subscriber {} at sequence {}", resumed ? "resumed" : "synced", position);
+            emitter.send(SseEmitter.event()
+                    .id(mockEmployeeService.eventId(position))
+                    .name("sync")
+                    .data(new ChangeFeedSync(position, resumed)));
+            while (true) {
+                final var after = changes.await(position, heartbeat);
+                if (after.isEmpty()) {
+                    // Fell behind the retained changes; reconnecting gets the subscriber a resync.
+                    emitter.complete();
+                    return;
+                }
+                if (after.get().isEmpty()) {
+                    emitter.send(SseEmitter.event().name("heartbeat").data(position));
+                }
+                for (MockEmployeeChange change : after.get()) {
+                    emitter.send(SseEmitter.event()
+                            .id(mockEmployeeService.eventId(change.sequence()))
+                            .name(change.type().name().toLowerCase(Locale.ROOT))
+                            .data(change));
+                    position = change.sequence();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed subscriber went away: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        subscriptions.shutdownNow();
+    }
+}
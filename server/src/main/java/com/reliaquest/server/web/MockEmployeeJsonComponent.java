@@ -0,0 +1,64 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Writes {@link MockEmployee} with pre-encoded field names instead of the reflective {@code @JsonNaming} bean
+ * serializer. Output is identical; the roster endpoint serializes every employee on each call.
+ */
+@JsonComponent
+public class MockEmployeeJsonComponent {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("employee_name");
+    private static final SerializableString SALARY = new SerializedString("employee_salary");
+    private static final SerializableString AGE = new SerializedString("employee_age");
+    private static final SerializableString TITLE = new SerializedString("employee_title");
+    private static final SerializableString EMAIL = new SerializedString("employee_email");
+
+    public static class Serializer extends JsonSerializer<MockEmployee> {
+
+        @Override
+        public void serialize(MockEmployee employee, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(employee);
+            gen.writeFieldName(ID);
+            if (employee.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(employee.getId().toString());
+            }
+            gen.writeFieldName(NAME);
+            gen.writeString(employee.getName());
+            writeInteger(gen, SALARY, employee.getSalary());
+            writeInteger(gen, AGE, employee.getAge());
+            gen.writeFieldName(TITLE);
+            gen.writeString(employee.getTitle());
+            gen.writeFieldName(EMAIL);
+            gen.writeString(employee.getEmail());
+            gen.writeEndObject();
+        }
+
+        @Override
+        public Class<MockEmployee> handledType() {
+            return MockEmployee.class;
+        }
+
+        private static void writeInteger(JsonGenerator gen, SerializableString field, Integer value)
+                throws IOException {
+            gen.writeFieldName(field);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+    }
+}
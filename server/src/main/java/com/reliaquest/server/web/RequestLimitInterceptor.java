@@ -0,0 +1,47 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.limit.RequestLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers 429 with a {@code Retry-After} once the {@link RequestLimiter} has no permit for the caller. Keyed per
+ * client, requests are budgeted by remote address; otherwise every request shares one budget.
+ */
+public class RequestLimitInterceptor implements HandlerInterceptor {
+
+    /** Header values for the common waits, so a rejection does not format one. */
+    private static final String[] RETRY_AFTER_SECONDS =
+            IntStream.rangeClosed(0, 300).mapToObj(Integer::toString).toArray(String[]::new);
+
+    private final RequestLimiter limiter;
+    private final boolean perClient;
+
+    public RequestLimitInterceptor(RequestLimiter limiter, boolean perClient) {
+        this.limiter = limiter;
+        this.perClient = perClient;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        int stripe = perClient ? limiter.stripeOf(request.getRemoteAddr()) : 0;
+        long wait = limiter.tryAcquire(stripe);
+        if (wait == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds(wait));
+        return false;
+    }
+
+    /** Whole seconds, rounded up so a client honoring the header never arrives before a permit is available. */
+    private static String retryAfterSeconds(long waitNanos) {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        return seconds < RETRY_AFTER_SECONDS.length ? RETRY_AFTER_SECONDS[(int) seconds] : Long.toString(seconds);
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.server.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.store.PinnedSnapshots;
+import com.reliaquest.server.support.MutableClock;
+import com.reliaquest.server.web.MockEmployeeChangeFeed;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    private MockEmployeeService service;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        List<MockEmployee> employees = IntStream.range(0, 3)
+                .mapToObj(i -> MockEmployee.builder()
+                        .id(UUID.randomUUID())
+                        .name("Employee " + i)
+                        .build())
+                .toList();
+        service = new MockEmployeeService(
+                new Faker(), new MockEmployeeStore(employees), new PinnedSnapshots(Duration.ofMinutes(1), 4, clock));
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(service, mock(MockEmployeeChangeFeed.class)))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void getPage_shouldReturnPage_whileSnapshotIsPinned() throws Exception {
+        // Given
+        String cursor = service.firstPage(service.getVersionedEmployees(), 1).next();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees[0].employee_name").value("Employee 1"));
+    }
+
+    @Test
+    void getPage_shouldReturn410_whenSnapshotExpired() throws Exception {
+        // Given
+        String cursor = service.firstPage(service.getVersionedEmployees(), 1).next();
+
+        // When
+        clock.advance(Duration.ofMinutes(1));
+
+        // Then
+        mockMvc.perform(get("/api/v1/employee").param("cursor", cursor)).andExpect(status().isGone());
+    }
+
+    @Test
+    void getPage_shouldReturn400_whenCursorIsMalformed() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor: garbage"));
+    }
+
+    @Test
+    void getFirstPage_shouldReturn400_whenSizeIsOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/employee").param("size", "0")).andExpect(status().isBadRequest());
+    }
+}
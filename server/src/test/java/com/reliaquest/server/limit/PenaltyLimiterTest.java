@@ -0,0 +1,94 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PenaltyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(123_456_789_000L);
+    private final MonotonicClock clock = nanos::get;
+
+    @Test
+    void tryAcquire_shouldRejectUntilPenaltyPassed_afterLimitIsReached() {
+        // Given
+        PenaltyLimiter limiter = new PenaltyLimiter(3, Duration.ofSeconds(30), 1, clock);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(0));
+            advance(Duration.ofSeconds(1));
+        }
+
+        // When & Then - the penalty runs from the last admitted request, a second ago
+        assertEquals(Duration.ofSeconds(29).toNanos(), limiter.tryAcquire(0));
+        advance(Duration.ofSeconds(29));
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(0, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_shouldMatchOldInterceptorAccounting() {
+        // Given
+        int limit = 5;
+        Duration penalty = Duration.ofSeconds(30);
+        PenaltyLimiter limiter = new PenaltyLimiter(limit, penalty, 1, clock);
+        OldAccounting reference = new OldAccounting(limit, penalty.toNanos(), 0);
+        SplittableRandom random = new SplittableRandom(7);
+        long elapsed = 0;
+
+        // When & Then
+        for (int i = 0; i < 5_000; i++) {
+            long step = Duration.ofMillis(random.nextInt(0, 12_000)).toNanos();
+            elapsed += step;
+            nanos.addAndGet(step);
+            assertEquals(reference.tryAcquire(elapsed), limiter.tryAcquire(0), "request " + i);
+        }
+    }
+
+    @Test
+    void tryAcquire_shouldKeepBudgetsPerStripe() {
+        // Given
+        PenaltyLimiter limiter = new PenaltyLimiter(1, Duration.ofSeconds(30), 4, clock);
+        assertEquals(0, limiter.tryAcquire(1));
+
+        // When & Then
+        assertTrue(limiter.tryAcquire(1) > 0);
+        assertEquals(0, limiter.tryAcquire(2));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    /** The accounting of the old interceptor, minus its races: a count, and the time of the last admitted request. */
+    private static final class OldAccounting {
+
+        private final int limit;
+        private final long penalty;
+        private int count;
+        private long lastRequested;
+
+        OldAccounting(int limit, long penalty, long now) {
+            this.limit = limit;
+            this.penalty = penalty;
+            this.lastRequested = now;
+        }
+
+        long tryAcquire(long now) {
+            if (count >= limit) {
+                long reopensAt = lastRequested + penalty;
+                if (now < reopensAt) {
+                    return reopensAt - now;
+                }
+                count = 0;
+                lastRequested = now;
+            } else {
+                count++;
+                lastRequested = now;
+            }
+            return 0;
+        }
+    }
+}
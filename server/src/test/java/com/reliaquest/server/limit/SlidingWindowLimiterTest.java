@@ -0,0 +1,79 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowLimiterTest {
+
+    private static final long WINDOW = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong nanos = new AtomicLong(42);
+    private final SlidingWindowLimiter limiter = new SlidingWindowLimiter(10, Duration.ofSeconds(1), 1, nanos::get);
+
+    @Test
+    void tryAcquire_shouldRejectUntilNextWindow_whenLimitIsReached() {
+        // Given
+        assertEquals(10, admitted());
+
+        // When & Then - the full previous window still weighs in completely at the very start of the next one
+        assertEquals(WINDOW + 1, limiter.tryAcquire(0));
+        nanos.addAndGet(WINDOW);
+        assertTrue(limiter.tryAcquire(0) > 0);
+        nanos.addAndGet(1);
+        assertEquals(0, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_shouldWeighPreviousWindowByOverlap() {
+        // Given
+        assertEquals(10, admitted());
+
+        // When - a quarter into the next window, 7.5 of the previous 10 still count
+        nanos.addAndGet(WINDOW + WINDOW / 4);
+
+        // Then
+        assertEquals(3, admitted());
+    }
+
+    @Test
+    void tryAcquire_shouldReturnExactRetryAfter_whenEstimateIsAtLimit() {
+        // Given
+        admitted();
+        nanos.addAndGet(WINDOW + WINDOW / 4);
+        admitted();
+
+        // When
+        long retryAfter = limiter.tryAcquire(0);
+
+        // Then - 10 * (0.75 s - t) + 3 s drops below 10 s just after t = 0.05 s
+        assertEquals(Duration.ofMillis(50).toNanos() + 1, retryAfter);
+        nanos.addAndGet(retryAfter - 1);
+        assertTrue(limiter.tryAcquire(0) > 0);
+        nanos.addAndGet(1);
+        assertEquals(0, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_shouldForgetCounts_afterTwoIdleWindows() {
+        // Given
+        admitted();
+
+        // When
+        nanos.addAndGet(2 * WINDOW);
+
+        // Then
+        assertEquals(10, admitted());
+    }
+
+    /** Acquires until the first rejection, without moving the clock. */
+    private int admitted() {
+        int admitted = 0;
+        while (limiter.tryAcquire(0) == 0) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
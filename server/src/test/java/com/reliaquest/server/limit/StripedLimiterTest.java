@@ -0,0 +1,75 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StripedLimiterTest {
+
+    private static final int LIMIT = 1_000;
+    private static final MonotonicClock FROZEN = () -> 0;
+
+    static Stream<Arguments> limiters() {
+        return Stream.of(
+                Arguments.of(new PenaltyLimiter(LIMIT, Duration.ofMinutes(1), 1, FROZEN)),
+                Arguments.of(new TokenBucketLimiter(1, LIMIT, 1, FROZEN)),
+                Arguments.of(new SlidingWindowLimiter(LIMIT, Duration.ofMinutes(1), 1, FROZEN)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("limiters")
+    void tryAcquire_shouldAdmitExactlyLimit_whenContended(RequestLimiter limiter) throws Exception {
+        // Given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> admitted = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                admitted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < LIMIT; i++) {
+                        if (limiter.tryAcquire(0) == 0) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then
+        int total = 0;
+        for (Future<Integer> future : admitted) {
+            total += future.get();
+        }
+        assertEquals(LIMIT, total);
+    }
+
+    @Test
+    void stripeOf_shouldStayWithinRoundedUpStripes() {
+        // Given
+        PenaltyLimiter limiter = new PenaltyLimiter(1, Duration.ofSeconds(1), 5, FROZEN);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            int stripe = limiter.stripeOf("10.0.0." + i);
+            assertTrue(stripe >= 0 && stripe < 8, "stripe " + stripe);
+        }
+        assertEquals(0, new PenaltyLimiter(1, Duration.ofSeconds(1), 1, FROZEN).stripeOf("10.0.0.1"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.server.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketLimiterTest {
+
+    private static final long INTERVAL = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong nanos = new AtomicLong(-5_000_000_000L);
+    private final TokenBucketLimiter limiter = new TokenBucketLimiter(10, 5, 1, nanos::get);
+
+    @Test
+    void tryAcquire_shouldAdmitBurst_thenWaitOneInterval() {
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(0), "request " + i);
+        }
+        assertEquals(INTERVAL, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOnePermitPerInterval() {
+        // Given
+        drain();
+
+        // When
+        nanos.addAndGet(INTERVAL);
+
+        // Then
+        assertEquals(0, limiter.tryAcquire(0));
+        assertEquals(INTERVAL, limiter.tryAcquire(0));
+        nanos.addAndGet(INTERVAL / 2);
+        assertEquals(INTERVAL / 2, limiter.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquire_shouldCapRefillAtBurst_whenIdle() {
+        // Given
+        drain();
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(0), "request " + i);
+        }
+        assertEquals(INTERVAL, limiter.tryAcquire(0));
+    }
+
+    private void drain() {
+        while (limiter.tryAcquire(0) == 0) {
+            // take the whole burst
+        }
+    }
+}
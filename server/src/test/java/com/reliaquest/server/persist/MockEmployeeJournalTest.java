@@ -0,0 +1,152 @@
+package com.reliaquest.server.persist;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    /** Length, checksum, sequence and type ahead of each payload. */
+    private static final int HEADER = 17;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_shouldReturnChangesAfterSequence() throws IOException {
+        // Given
+        List<MockEmployeeChange> changes = changes(1, 5);
+        append(0, 4096, changes);
+
+        // When & Then
+        assertEquals(changes, MockEmployeeJournal.replay(directory, 0));
+        assertEquals(changes.subList(3, 5), MockEmployeeJournal.replay(directory, 3));
+    }
+
+    @Test
+    void replay_shouldMapNextSegment_whenRecordDoesNotFit() throws IOException {
+        // Given
+        List<MockEmployeeChange> changes = changes(1, 50);
+
+        // When
+        append(0, 100, changes);
+
+        // Then
+        assertEquals(changes, MockEmployeeJournal.replay(directory, 0));
+    }
+
+    @Test
+    void replay_shouldStopAtTornRecord() throws IOException {
+        // Given
+        List<MockEmployeeChange> changes = changes(1, 3);
+        append(0, 4096, changes);
+        Path file = directory.resolve("journal-0.log");
+        int second = recordSize(file, 0);
+
+        // When - one payload byte of the second record never reached the file
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer payload = ByteBuffer.allocate(1);
+            channel.read(payload, second + HEADER);
+            payload.put(0, (byte) (payload.get(0) ^ 0x5A)).rewind();
+            channel.write(payload, second + HEADER);
+        }
+
+        // Then
+        assertEquals(changes.subList(0, 1), MockEmployeeJournal.replay(directory, 0));
+    }
+
+    @Test
+    void replay_shouldStopAtTruncatedTail() throws IOException {
+        // Given
+        List<MockEmployeeChange> changes = changes(1, 3);
+        append(0, 4096, changes);
+        Path file = directory.resolve("journal-0.log");
+        int second = recordSize(file, 0);
+        int third = second + recordSize(file, second);
+
+        // When
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(third + HEADER + 3);
+        }
+
+        // Then
+        assertEquals(changes.subList(0, 2), MockEmployeeJournal.replay(directory, 0));
+    }
+
+    @Test
+    void replay_shouldStopAtGap() throws IOException {
+        // Given
+        append(0, 4096, changes(1, 2));
+        append(3, 4096, changes(5, 6));
+
+        // When & Then
+        assertEquals(changes(1, 2), MockEmployeeJournal.replay(directory, 0));
+    }
+
+    @Test
+    void replay_shouldContinueAcrossFiles() throws IOException {
+        // Given
+        append(0, 4096, changes(1, 3));
+        append(3, 4096, changes(4, 6));
+
+        // When & Then
+        assertEquals(changes(1, 6), MockEmployeeJournal.replay(directory, 0));
+    }
+
+    @Test
+    void deleteRolled_shouldKeepOnlyCurrentFile() throws IOException {
+        // Given
+        try (MockEmployeeJournal journal = MockEmployeeJournal.open(directory, 0, 4096, false)) {
+            changes(1, 3).forEach(journal::append);
+            journal.roll();
+            changes(4, 5).forEach(journal::append);
+
+            // When
+            journal.deleteRolled();
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of("journal-3.log"), files.map(file -> file.getFileName().toString()).toList());
+        }
+        assertEquals(changes(4, 5), MockEmployeeJournal.replay(directory, 3));
+    }
+
+    private void append(long after, int segmentSize, List<MockEmployeeChange> changes) throws IOException {
+        try (MockEmployeeJournal journal = MockEmployeeJournal.open(directory, after, segmentSize, false)) {
+            changes.forEach(journal::append);
+        }
+    }
+
+    /** Size of the record at {@code offset}, header included. */
+    private static int recordSize(Path file, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, offset);
+            return HEADER + length.getInt(0);
+        }
+    }
+
+    private static List<MockEmployeeChange> changes(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                .mapToObj(sequence -> new MockEmployeeChange(
+                        sequence,
+                        sequence % 3 == 0 ? MockEmployeeChange.Type.DELETED : MockEmployeeChange.Type.CREATED,
+                        new MockEmployee(
+                                new UUID(0, sequence), "Employee " + sequence, 50000, 30, null, "e@company.com")))
+                .toList();
+    }
+}
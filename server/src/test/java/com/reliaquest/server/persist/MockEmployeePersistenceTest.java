@@ -0,0 +1,180 @@
+package com.reliaquest.server.persist;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<MockEmployeePersistence> opened = new ArrayList<>();
+
+    /** Earlier instances stand for crashed processes and are abandoned, never closed. */
+    @AfterEach
+    void tearDown() throws IOException {
+        if (!opened.isEmpty()) {
+            opened.getLast().close();
+        }
+    }
+
+    @Test
+    void open_shouldGenerateAndSnapshotRoster_whenDirectoryIsEmpty() throws IOException {
+        // When
+        MockEmployeeStore store = open(roster(3));
+
+        // Then
+        assertEquals(3, store.size());
+        assertTrue(Files.exists(directory.resolve("snapshot-1.bin")));
+    }
+
+    @Test
+    void open_shouldRecoverJournaledChanges_afterCrash() throws IOException {
+        // Given - the process dies without a snapshot or a clean close
+        MockEmployeeStore crashed = open(roster(3));
+        crashed.add(employee("Created"));
+        crashed.removeFirstByName("Employee 1");
+        MockEmployeeStore.Snapshot before = crashed.versionedSnapshot();
+
+        // When
+        MockEmployeeStore recovered = open(roster(3));
+
+        // Then
+        assertEquals(before, recovered.versionedSnapshot());
+    }
+
+    @Test
+    void open_shouldKeepChanges_acrossRepeatedCrashesBeforeAnySnapshot() throws IOException {
+        // Given
+        open(roster(3)).add(employee("First"));
+        open(roster(3)).add(employee("Second"));
+
+        // When
+        MockEmployeeStore recovered = open(roster(3));
+
+        // Then
+        List<String> names = recovered.snapshot().stream().map(MockEmployee::getName).toList();
+        assertEquals(List.of("Employee 0", "Employee 1", "Employee 2", "First", "Second"), names);
+        assertEquals(3, recovered.versionedSnapshot().version());
+    }
+
+    @Test
+    void open_shouldReplayChangeAfterRejectedDuplicate() throws IOException {
+        // Given
+        MockEmployeeStore crashed = open(roster(3));
+        MockEmployee duplicate = crashed.snapshot().getFirst().toBuilder().name("Duplicate").build();
+        assertThrows(IllegalArgumentException.class, () -> crashed.add(duplicate));
+        crashed.add(employee("Created"));
+        MockEmployeeStore.Snapshot before = crashed.versionedSnapshot();
+
+        // When
+        MockEmployeeStore recovered = open(roster(3));
+
+        // Then
+        assertEquals(before, recovered.versionedSnapshot());
+    }
+
+    @Test
+    void snapshot_shouldNotLoseChanges_whenTakenConcurrentlyWithWrites() throws Exception {
+        // Given
+        MockEmployeePersistence persistence = persistence();
+        MockEmployeeStore store = persistence.open(() -> roster(10), 100);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 3; t++) {
+                String prefix = "Writer " + t + " ";
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        store.add(employee(prefix + i));
+                        if (i % 3 == 0) {
+                            store.removeFirstByName(prefix + i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> snapshots = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    persistence.snapshot();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            snapshots.get();
+        }
+        MockEmployeeStore.Snapshot before = store.versionedSnapshot();
+
+        // Then - recovering from what is on disk, without a final snapshot, gives the same roster
+        MockEmployeeStore recovered = open(roster(10));
+        assertEquals(before, recovered.versionedSnapshot());
+    }
+
+    @Test
+    void close_shouldWriteFinalSnapshot() throws IOException {
+        // Given
+        MockEmployeePersistence persistence = persistence();
+        persistence.open(() -> roster(3), 100).add(employee("Created"));
+
+        // When
+        persistence.close();
+
+        // Then
+        assertTrue(Files.exists(directory.resolve("snapshot-2.bin")));
+        assertFalse(Files.exists(directory.resolve("snapshot-1.bin")));
+        assertEquals(4, open(roster(3)).size());
+    }
+
+    private MockEmployeeStore open(List<MockEmployee> generated) throws IOException {
+        return persistence().open(() -> generated, 100);
+    }
+
+    /** Snapshots only when a test asks for one. */
+    private MockEmployeePersistence persistence() {
+        MockEmployeePersistence persistence = new MockEmployeePersistence(directory, Duration.ofHours(1), 4096, false);
+        opened.add(persistence);
+        return persistence;
+    }
+
+    private static List<MockEmployee> roster(int size) {
+        return IntStream.range(0, size).mapToObj(i -> employee("Employee " + i)).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.server.persist;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readLatest_shouldReturnWrittenSnapshot() throws IOException {
+        // Given
+        List<MockEmployee> employees = List.of(
+                new MockEmployee(UUID.randomUUID(), "Zoë Ünal", 50000, 30, "Developer", "zoe@company.com"),
+                new MockEmployee(UUID.randomUUID(), null, null, null, null, null));
+        MockEmployeeSnapshots.write(directory, new MockEmployeeStore.Snapshot(7, employees));
+
+        // When
+        Optional<MockEmployeeSnapshots.Recovered> recovered = MockEmployeeSnapshots.readLatest(directory);
+
+        // Then
+        assertEquals(Optional.of(new MockEmployeeSnapshots.Recovered(7, employees)), recovered);
+    }
+
+    @Test
+    void write_shouldReplaceOlderSnapshots() throws IOException {
+        // When
+        MockEmployeeSnapshots.write(directory, new MockEmployeeStore.Snapshot(1, List.of()));
+        MockEmployeeSnapshots.write(directory, new MockEmployeeStore.Snapshot(2, List.of()));
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("snapshot-1.bin")));
+        assertEquals(2, MockEmployeeSnapshots.readLatest(directory).orElseThrow().version());
+    }
+
+    @Test
+    void readLatest_shouldSkipCorruptSnapshot() throws IOException {
+        // Given
+        MockEmployeeSnapshots.write(directory, new MockEmployeeStore.Snapshot(2, List.of()));
+        Path newest = directory.resolve("snapshot-3.bin");
+        Files.copy(directory.resolve("snapshot-2.bin"), newest);
+
+        // When - the newest one has a byte that never reached the disk
+        try (FileChannel channel = FileChannel.open(newest, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), 9);
+        }
+
+        // Then
+        assertEquals(2, MockEmployeeSnapshots.readLatest(directory).orElseThrow().version());
+    }
+
+    @Test
+    void readLatest_shouldReturnEmpty_whenThereIsNoSnapshot() throws IOException {
+        // When & Then
+        assertEquals(Optional.empty(), MockEmployeeSnapshots.readLatest(directory));
+    }
+}
@@ -0,0 +1,154 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void snapshot_shouldBeUnaffected_byLaterAddsAndDeletes() {
+        // Given
+        MockEmployeeStore store = new MockEmployeeStore(List.of(employee("Ann"), employee("Bob")));
+        MockEmployeeStore.Snapshot before = store.versionedSnapshot();
+        List<MockEmployee> expected = List.copyOf(before.employees());
+
+        // When
+        store.add(employee("Cid"));
+        MockEmployeeStore.Snapshot afterAdd = store.versionedSnapshot();
+        store.removeFirstByName("ann");
+        store.add(employee("Dee"));
+
+        // Then
+        assertEquals(expected, before.employees());
+        assertEquals(1, before.version());
+        assertEquals(List.of("Ann", "Bob", "Cid"), names(afterAdd.employees()));
+        assertEquals(2, afterAdd.version());
+        assertEquals(List.of("Bob", "Cid", "Dee"), names(store.snapshot()));
+        assertEquals(4, store.versionedSnapshot().version());
+    }
+
+    @Test
+    void removeFirstByName_shouldDeleteSameEmployeeAsEqualsIgnoreCaseScan() {
+        // Given
+        String[] names = {
+            "Ann", "ANN", "aNn", "Bob", "BOB", "straße", "STRASSE", "İlk", "ilk", "ılk", "Σίσυφος", "σίσυφοσ"
+        };
+        SplittableRandom random = new SplittableRandom(42);
+        List<MockEmployee> reference = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            reference.add(employee(names[random.nextInt(names.length)]));
+        }
+        MockEmployeeStore store = new MockEmployeeStore(reference);
+
+        // When & Then
+        for (int i = 0; i < 300; i++) {
+            String name = names[random.nextInt(names.length)];
+            Optional<MockEmployee> expected =
+                    reference.stream().filter(e -> e.getName().equalsIgnoreCase(name)).findFirst();
+            expected.ifPresent(reference::remove);
+            Optional<MockEmployee> removed = store.removeFirstByName(name);
+            assertEquals(expected.map(MockEmployee::getId), removed.map(MockEmployee::getId), name);
+        }
+        assertEquals(reference, store.snapshot());
+    }
+
+    @Test
+    void add_shouldRejectDuplicateId_andLeaveStoreUnchanged() {
+        // Given
+        MockEmployee existing = employee("Ann");
+        MockEmployeeStore store = new MockEmployeeStore(List.of(existing));
+        MockEmployee duplicate = existing.toBuilder().name("Bob").build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> store.add(duplicate));
+        assertEquals(List.of(existing), store.snapshot());
+        assertEquals(1, store.versionedSnapshot().version());
+        assertEquals(Optional.empty(), store.removeFirstByName("Bob"));
+        assertEquals(existing, store.findById(existing.getId()).orElseThrow());
+    }
+
+    @Test
+    void add_shouldRejectDuplicateId_whenLoading() {
+        // Given
+        MockEmployee employee = employee("Ann");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new MockEmployeeStore(List.of(employee, employee)));
+    }
+
+    @Test
+    void addAndRemove_shouldKeepIndexesAndListingConsistent_whenConcurrent() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 500;
+        MockEmployeeStore store = new MockEmployeeStore(List.of());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<MockEmployee>>> kept = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                String prefix = "Thread " + t + " ";
+                kept.add(executor.submit(() -> {
+                    start.await();
+                    List<MockEmployee> survivors = new ArrayList<>();
+                    for (int i = 0; i < perThread; i++) {
+                        MockEmployee employee = employee(prefix + i);
+                        store.add(employee);
+                        if (i % 2 == 0) {
+                            assertEquals(employee, store.removeFirstByName(employee.getName().toUpperCase())
+                                    .orElseThrow());
+                        } else {
+                            survivors.add(employee);
+                        }
+                    }
+                    return survivors;
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then
+        List<MockEmployee> survivors = new ArrayList<>();
+        for (Future<List<MockEmployee>> future : kept) {
+            survivors.addAll(future.get());
+        }
+        MockEmployeeStore.Snapshot snapshot = store.versionedSnapshot();
+        assertEquals(survivors.size(), snapshot.employees().size());
+        assertTrue(snapshot.employees().containsAll(survivors));
+        assertEquals(1 + threads * (perThread + perThread / 2), snapshot.version());
+        assertEquals(snapshot.version(), store.changes().latest());
+        for (MockEmployee survivor : survivors) {
+            assertEquals(survivor, store.findById(survivor.getId()).orElseThrow());
+            assertEquals(survivor, store.removeFirstByName(survivor.getName()).orElseThrow());
+            assertEquals(Optional.empty(), store.findById(survivor.getId()));
+        }
+        assertEquals(0, store.size());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(50000)
+                .age(30)
+                .title("Developer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    private static List<String> names(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getName).toList();
+    }
+}
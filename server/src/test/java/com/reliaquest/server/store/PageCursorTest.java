@@ -0,0 +1,38 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.exception.InvalidPageRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PageCursorTest {
+
+    @Test
+    void decode_shouldReturnEncodedCursor() {
+        // Given
+        PageCursor cursor = new PageCursor(Long.MAX_VALUE, 1_000_000, 500);
+
+        // When
+        String encoded = cursor.encode();
+
+        // Then
+        assertEquals(cursor, PageCursor.decode(encoded));
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "1:0", "1:0:10:4", "x:0:10", "1:-1:10", "1:0:0", "1:0:99999999999"})
+    void decode_shouldRejectCursor_whenItWasNotEncoded(String raw) {
+        // Given
+        String cursor = raw.startsWith("not")
+                ? raw
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+
+        // When & Then
+        assertThrows(InvalidPageRequestException.class, () -> PageCursor.decode(cursor));
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class PinnedSnapshotsTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    void get_shouldReturnSnapshot_whilePinned() {
+        // Given
+        PinnedSnapshots pinned = new PinnedSnapshots(Duration.ofMinutes(5), 4, clock);
+        MockEmployeeStore.Snapshot snapshot = snapshot(7);
+        pinned.pin(snapshot);
+
+        // When & Then
+        assertEquals(Optional.of(snapshot), pinned.get(7));
+        assertEquals(Optional.empty(), pinned.get(8));
+    }
+
+    @Test
+    void get_shouldReturnEmpty_whenNotReadForTtl() {
+        // Given
+        PinnedSnapshots pinned = new PinnedSnapshots(Duration.ofMinutes(5), 4, clock);
+        pinned.pin(snapshot(7));
+
+        // When
+        clock.advance(Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(Optional.empty(), pinned.get(7));
+    }
+
+    @Test
+    void get_shouldExtendLease_whenRead() {
+        // Given
+        PinnedSnapshots pinned = new PinnedSnapshots(Duration.ofMinutes(5), 4, clock);
+        pinned.pin(snapshot(7));
+
+        // When
+        clock.advance(Duration.ofMinutes(4));
+        pinned.get(7);
+        clock.advance(Duration.ofMinutes(4));
+
+        // Then
+        assertTrue(pinned.get(7).isPresent());
+    }
+
+    @Test
+    void pin_shouldEvictLeastRecentlyRead_whenOverCapacity() {
+        // Given
+        PinnedSnapshots pinned = new PinnedSnapshots(Duration.ofMinutes(5), 2, clock);
+        pinned.pin(snapshot(1));
+        clock.advance(Duration.ofSeconds(1));
+        pinned.pin(snapshot(2));
+        clock.advance(Duration.ofSeconds(1));
+        pinned.get(1);
+        clock.advance(Duration.ofSeconds(1));
+
+        // When
+        pinned.pin(snapshot(3));
+
+        // Then
+        assertTrue(pinned.get(1).isPresent());
+        assertEquals(Optional.empty(), pinned.get(2));
+        assertTrue(pinned.get(3).isPresent());
+    }
+
+    private static MockEmployeeStore.Snapshot snapshot(long version) {
+        return new MockEmployeeStore.Snapshot(version, List.of());
+    }
+}